@@ -0,0 +1,94 @@
+package com.example.placesearchtoy.benchmark;
+
+import com.example.placesearchtoy.adapter.decoder.PlaceResponseDecoder;
+import com.example.placesearchtoy.adapter.model.SearchKeywordResponse;
+import com.example.placesearchtoy.adapter.model.SearchLocalResponse;
+import com.example.placesearchtoy.application.dto.PlaceDto;
+import com.example.placesearchtoy.application.mapper.PlaceMapper;
+import com.example.placesearchtoy.application.mapper.PlaceMapperImpl;
+import com.example.placesearchtoy.application.model.type.ProviderType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * 검색 API 응답 변환 비교
+ * 응답 객체 바인딩 후 MapStruct로 복사하는 방식과 스트리밍으로 장소 목록을 바로 만드는 방식의 변환 시간을 비교한다.
+ * 요청당 할당량은 gc 프로파일러의 gc.alloc.rate.norm 값으로 비교한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PlaceDecodingBenchmark {
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final PlaceMapper mapper = new PlaceMapperImpl();
+  private final PlaceResponseDecoder decoder = new PlaceResponseDecoder(objectMapper);
+
+  private final byte[] naverBody = naverBody(5);
+  private final byte[] kakaoBody = kakaoBody(15);
+
+  @Benchmark
+  public void bindAndMap(Blackhole blackhole) throws IOException {
+    var naverResponse = objectMapper.readValue(naverBody, SearchLocalResponse.class);
+    blackhole.consume(mapper.itemsToPlaceDtos(naverResponse.getItems(), ProviderType.NAVER));
+
+    var kakaoResponse = objectMapper.readValue(kakaoBody, SearchKeywordResponse.class);
+    blackhole.consume(mapper.documentsToPlaceDtos(kakaoResponse.getDocuments(), ProviderType.KAKAO));
+  }
+
+  @Benchmark
+  public void streaming(Blackhole blackhole) throws IOException {
+    List<PlaceDto> naverPlaces = decoder.decodeNaver(new ByteArrayInputStream(naverBody));
+    blackhole.consume(naverPlaces);
+
+    List<PlaceDto> kakaoPlaces = decoder.decodeKakao(new ByteArrayInputStream(kakaoBody));
+    blackhole.consume(kakaoPlaces);
+  }
+
+  private static byte[] naverBody(int size) {
+    var items = IntStream.range(0, size)
+                         .mapToObj(i -> """
+                             {"title":"<b>떡볶이</b> 맛집 %d호점","link":"https://example.com/%d","category":"음식점>분식",
+                              "description":"","telephone":"","address":"서울특별시 중구 신당동 %d",
+                              "roadAddress":"서울특별시 중구 다산로 %d 럭키프라자","mapx":"310%03d","mapy":"552%03d"}
+                             """.formatted(i, i, i, i, i, i))
+                         .collect(Collectors.joining(","));
+    return """
+        {"lastBuildDate":"Tue, 05 Jul 2022 21:00:00 +0900","total":%d,"start":1,"display":%d,"items":[%s]}
+        """.formatted(size, size, items).getBytes(StandardCharsets.UTF_8);
+  }
+
+  private static byte[] kakaoBody(int size) {
+    var documents = IntStream.range(0, size)
+                             .mapToObj(i -> """
+                                 {"address_name":"서울 중구 신당동 %d","category_group_code":"FD6","category_group_name":"음식점",
+                                  "category_name":"음식점 > 분식 > 떡볶이","distance":"","id":"%d","phone":"02-000-%04d",
+                                  "place_name":"떡볶이 맛집 %d호점","place_url":"http://place.map.kakao.com/%d",
+                                  "road_address_name":"서울 중구 다산로 %d","x":"127.01%04d","y":"37.56%04d"}
+                                 """.formatted(i, i, i, i, i, i, i, i))
+                             .collect(Collectors.joining(","));
+    return """
+        {"meta":{"is_end":false,"pageable_count":45,"same_name":{"keyword":"떡볶이","region":[],"selected_region":""},
+         "total_count":%d},"documents":[%s]}
+        """.formatted(size, documents).getBytes(StandardCharsets.UTF_8);
+  }
+}
@@ -0,0 +1,84 @@
+package com.example.placesearchtoy.benchmark;
+
+import com.example.placesearchtoy.application.support.PlaceKeyNormalizer;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * 장소 중복 판단 키 생성 비교
+ * 정규식으로 괄호와 행정구역 접미어를 지우고 나누던 방식과 PlaceKeyNormalizer의 문자 단위 방식을 비교한다.
+ * 카카오/네이버 검색 결과 형태의 장소명과 도로명 주소를 사용하고, 키 하나를 만드는 평균 시간을 측정한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PlaceKeyNormalizerBenchmark {
+
+  private static final String FILTER_BRACKET = "\\(.*\\)|\\[.*]|<.*>";
+  private static final String FILTER_SUFFIX = "특별시|광역시|특별자치도|도|시|지하";
+  private static final String[] EXCEPT_WORDS = {"빌딩", "층", "호"};
+
+  private static final String[][] PLACES = {
+      {"동대문엽기떡볶이 동대문본점", "서울특별시 중구 다산로 265 럭키프라자"},
+      {"<b>신전떡볶이</b>(본점) 1층", "경상북도 포항시 남구 지하 12 A빌딩 3층 101호"},
+      {"호랑이분식 서현본점", "경기 성남시 분당구 서현로 204 엘지에클라트2차 2층 호랑이분식"},
+      {"[제주]올래국수", "제주특별자치도 제주시 귀아랑길 24"},
+      {"   ", "부산광역시 해운대구 해운대해변로 264"}
+  };
+
+  @Benchmark
+  @OperationsPerInvocation(5)
+  public void regex(Blackhole blackhole) {
+    for (String[] place : PLACES) {
+      blackhole.consume(regexKey(place[0], place[1]));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(5)
+  public void normalizer(Blackhole blackhole) {
+    for (String[] place : PLACES) {
+      blackhole.consume(PlaceKeyNormalizer.normalize(place[0], place[1]));
+    }
+  }
+
+  /**
+   * 기존 PlaceDto.getNameWithAddress 정규식 구현
+   * 공백으로만 이루어진 장소명은 PlaceKeyNormalizer와 같게 빈 단어로 처리한다.
+   */
+  private static String regexKey(String name, String roadAddress) {
+    var names = name.split(" ");
+    var filteredName = (names.length > 0 ? names[0] : "").replaceAll(FILTER_BRACKET, "");
+    var filteredAddress = roadAddress.replaceAll(FILTER_SUFFIX, "");
+
+    var concatKey = filteredName + " " + filteredAddress;
+    String[] splitKeys = concatKey.split("\\s+");
+    String[] keys = splitKeys.length > 5 ? Arrays.copyOfRange(splitKeys, 0, 5) : splitKeys;
+
+    return Arrays.stream(keys).filter(address -> !hasExceptWord(address)).collect(Collectors.joining());
+  }
+
+  private static boolean hasExceptWord(String word) {
+    for (String exceptWord : EXCEPT_WORDS) {
+      if (word.contains(exceptWord)) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
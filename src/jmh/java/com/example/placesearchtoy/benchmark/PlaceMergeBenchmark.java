@@ -0,0 +1,91 @@
+package com.example.placesearchtoy.benchmark;
+
+import com.example.placesearchtoy.application.dto.PlaceDto;
+import com.example.placesearchtoy.application.model.ProviderPlaces;
+import com.example.placesearchtoy.application.model.type.ProviderType;
+import com.example.placesearchtoy.application.support.PlaceMerger;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 검색 API 결과 병합 비교
+ * 횟수 집계 후 두 번 정렬하고 중복을 제거하던 방식과 PlaceMerger의 한 번 순회 방식을 검색 API 개수별로 비교한다.
+ * 검색 API마다 최대 개수만큼 조회하고, 절반은 다른 검색 API 결과와 겹치도록 만든다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PlaceMergeBenchmark {
+
+  private static final int MAX_SIZE = 10;
+
+  @Param({"2", "3", "5"})
+  private int providers;
+
+  private List<ProviderPlaces> providerPlaces;
+
+  @Setup
+  public void setUp() {
+    var providerTypes = ProviderType.values();
+    providerPlaces = IntStream.range(0, providers)
+                              .mapToObj(provider -> {
+                                var providerType = providerTypes[provider % providerTypes.length];
+                                var places = IntStream.range(0, MAX_SIZE)
+                                                      .mapToObj(i -> place(i % 2 == 0 ? "공통" + i : "검색" + provider + "_" + i, providerType))
+                                                      .toList();
+                                return ProviderPlaces.of(providerType.name(), providerType.getPriority(), places);
+                              })
+                              .toList();
+  }
+
+  @Benchmark
+  public List<PlaceDto> countAndSort() {
+    List<PlaceDto> places = providerPlaces.stream().map(ProviderPlaces::getPlaces).flatMap(Collection::stream).toList();
+
+    Map<String, Integer> matchCounts = new HashMap<>();
+    places.forEach(place -> {
+      matchCounts.putIfAbsent(place.getNameWithAddress(), 0);
+      matchCounts.computeIfPresent(place.getNameWithAddress(), (key, value) -> value + 1);
+    });
+    places.forEach(place -> place.updateMatchCount(matchCounts.get(place.getNameWithAddress())));
+
+    return places.stream()
+                 .sorted(Comparator.comparing(place -> place.getProviderType().getPriority()))
+                 .sorted(Comparator.comparing(PlaceDto::getMatchCount).reversed())
+                 .distinct()
+                 .limit(MAX_SIZE)
+                 .toList();
+  }
+
+  @Benchmark
+  public List<PlaceDto> singlePass() {
+    return PlaceMerger.merge(providerPlaces, MAX_SIZE);
+  }
+
+  private static PlaceDto place(String name, ProviderType providerType) {
+    var place = new PlaceDto();
+    place.setName(name + " 본점");
+    place.setRoadAddress("서울특별시 중구 다산로 265 럭키프라자");
+    place.setProviderType(providerType);
+    return place;
+  }
+}
@@ -0,0 +1,118 @@
+package com.example.placesearchtoy.benchmark;
+
+import com.example.placesearchtoy.configuration.VirtualThreads;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 플랫폼 스레드 풀과 가상 스레드의 동시 검색 처리량/메모리 비교
+ * 검색 한 건은 요청 스레드에서 두 검색 API를 동시에 호출하고 기다리는 블로킹 흐름을 흉내 낸다.
+ * 플랫폼 스레드 풀은 Tomcat 기본 최대 스레드 수(200)와 검색 API 동시 호출 풀 크기(32)를 사용한다.
+ * virtual 모드는 JDK 21 이상에서 실행해야 하며, 메모리 사용량은 gc 프로파일러 결과와 반복마다 출력하는 최대 스레드 수/힙 사용량으로 비교한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+public class SearchExecutionBenchmark {
+
+  @Param({"1000", "5000"})
+  private int concurrentSearches;
+
+  @Param({"platform", "virtual"})
+  private String threads;
+
+  @Param("50")
+  private long providerLatencyMillis;
+
+  private ExecutorService requestExecutor;
+  private ExecutorService providerExecutor;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    if ("virtual".equals(threads)) {
+      requestExecutor = VirtualThreads.newExecutor("request-");
+      providerExecutor = VirtualThreads.newExecutor("provider-");
+    } else {
+      requestExecutor = Executors.newFixedThreadPool(200);
+      providerExecutor = Executors.newFixedThreadPool(32);
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    requestExecutor.shutdownNow();
+    providerExecutor.shutdownNow();
+  }
+
+  @Setup(Level.Iteration)
+  public void resetPeakThreadCount() {
+    ManagementFactory.getThreadMXBean().resetPeakThreadCount();
+  }
+
+  /**
+   * 반복마다 최대 스레드 수와 힙 사용량 출력
+   * 플랫폼 스레드는 스레드마다 힙 밖에 스택 메모리를 예약하므로 최대 스레드 수도 함께 비교한다.
+   */
+  @TearDown(Level.Iteration)
+  public void printMemoryUsage() {
+    var peakThreads = ManagementFactory.getThreadMXBean().getPeakThreadCount();
+    var heapUsedMegabytes = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed() / (1024 * 1024);
+    System.out.printf("%n%s threads, %d searches: peak threads - %d, heap used - %d MB%n",
+        threads, concurrentSearches, peakThreads, heapUsedMegabytes);
+  }
+
+  /**
+   * concurrentSearches 건의 검색을 동시에 요청하고 모두 끝날 때까지 대기
+   *
+   * @throws InterruptedException
+   */
+  @Benchmark
+  public void searchPlaces() throws InterruptedException {
+    var completed = new CountDownLatch(concurrentSearches);
+    for (int i = 0; i < concurrentSearches; i++) {
+      requestExecutor.execute(() -> {
+        try {
+          searchPlace();
+        } finally {
+          completed.countDown();
+        }
+      });
+    }
+    completed.await();
+  }
+
+  private void searchPlace() {
+    var naver = CompletableFuture.runAsync(this::callProvider, providerExecutor);
+    var kakao = CompletableFuture.runAsync(this::callProvider, providerExecutor);
+    naver.join();
+    kakao.join();
+  }
+
+  private void callProvider() {
+    try {
+      Thread.sleep(providerLatencyMillis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
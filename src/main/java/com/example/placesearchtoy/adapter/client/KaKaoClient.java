@@ -3,6 +3,8 @@ package com.example.placesearchtoy.adapter.client;
 
 import com.example.placesearchtoy.adapter.model.SearchKeywordResponse;
 import com.example.placesearchtoy.configuration.KakaoFeignConfiguration;
+import feign.Request;
+import feign.Response;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestParam;
@@ -11,5 +13,8 @@ import org.springframework.web.bind.annotation.RequestParam;
 public interface KaKaoClient {
 
   @GetMapping(value = "/v2/local/search/keyword.json")
-  SearchKeywordResponse searchKeywordLocal(@RequestParam String query, @RequestParam int size);
+  SearchKeywordResponse searchKeywordLocal(@RequestParam String query, @RequestParam int size, Request.Options options);
+
+  @GetMapping(value = "/v2/local/search/keyword.json")
+  Response searchKeywordPlaces(@RequestParam String query, @RequestParam int size, Request.Options options);
 }
@@ -0,0 +1,29 @@
+package com.example.placesearchtoy.adapter.client;
+
+import com.example.placesearchtoy.adapter.model.SearchKeywordResponse;
+import java.time.Duration;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClientRequest;
+
+@Component
+@RequiredArgsConstructor
+public class KakaoAsyncClient {
+
+  @Qualifier("kakaoWebClient")
+  private final WebClient webClient;
+
+  public Mono<SearchKeywordResponse> searchKeywordLocal(String query, int size, Duration responseTimeout) {
+    return webClient.get()
+                    .uri(builder -> builder.path("/v2/local/search/keyword.json")
+                                           .queryParam("query", "{query}")
+                                           .queryParam("size", size)
+                                           .build(query))
+                    .httpRequest(request -> request.<HttpClientRequest>getNativeRequest().responseTimeout(responseTimeout))
+                    .retrieve()
+                    .bodyToMono(SearchKeywordResponse.class);
+  }
+}
@@ -0,0 +1,29 @@
+package com.example.placesearchtoy.adapter.client;
+
+import com.example.placesearchtoy.adapter.model.SearchLocalResponse;
+import java.time.Duration;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClientRequest;
+
+@Component
+@RequiredArgsConstructor
+public class NaverAsyncClient {
+
+  @Qualifier("naverWebClient")
+  private final WebClient webClient;
+
+  public Mono<SearchLocalResponse> searchLocals(String query, int display, Duration responseTimeout) {
+    return webClient.get()
+                    .uri(builder -> builder.path("/v1/search/local.json")
+                                           .queryParam("query", "{query}")
+                                           .queryParam("display", display)
+                                           .build(query))
+                    .httpRequest(request -> request.<HttpClientRequest>getNativeRequest().responseTimeout(responseTimeout))
+                    .retrieve()
+                    .bodyToMono(SearchLocalResponse.class);
+  }
+}
@@ -3,6 +3,8 @@ package com.example.placesearchtoy.adapter.client;
 
 import com.example.placesearchtoy.adapter.model.SearchLocalResponse;
 import com.example.placesearchtoy.configuration.NaverFeignConfiguration;
+import feign.Request;
+import feign.Response;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestParam;
@@ -11,5 +13,9 @@ import org.springframework.web.bind.annotation.RequestParam;
 public interface NaverClient {
 
   @GetMapping(value = "/v1/search/local.json")
-  SearchLocalResponse searchLocals(@RequestParam String query, @RequestParam int display);
+  SearchLocalResponse searchLocals(@RequestParam String query, @RequestParam int display,
+      Request.Options options);
+
+  @GetMapping(value = "/v1/search/local.json")
+  Response searchLocalPlaces(@RequestParam String query, @RequestParam int display, Request.Options options);
 }
@@ -0,0 +1,136 @@
+package com.example.placesearchtoy.adapter.decoder;
+
+import com.example.placesearchtoy.application.dto.PlaceDto;
+import com.example.placesearchtoy.application.model.GeoPoint;
+import com.example.placesearchtoy.application.model.type.ProviderType;
+import com.example.placesearchtoy.application.support.GeoCoordinates;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import feign.FeignException;
+import feign.Response;
+import feign.codec.DecodeException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiFunction;
+import org.springframework.stereotype.Component;
+
+/**
+ * 검색 API 응답을 스트리밍으로 읽어 장소 목록으로 변환
+ * 응답 전체를 객체로 바인딩하지 않고, 필요한 필드만 읽고 나머지는 토큰 단위로 건너뛴다.
+ */
+@Component
+public class PlaceResponseDecoder {
+
+  private static final PlaceFields NAVER_FIELDS =
+      new PlaceFields(ProviderType.NAVER, "items", "title", "roadAddress", "mapx", "mapy", GeoCoordinates::fromNaver);
+
+  private static final PlaceFields KAKAO_FIELDS =
+      new PlaceFields(ProviderType.KAKAO, "documents", "place_name", "road_address_name", "x", "y", GeoCoordinates::fromKakao);
+
+  private final JsonFactory jsonFactory;
+
+  public PlaceResponseDecoder(ObjectMapper objectMapper) {
+    this.jsonFactory = objectMapper.getFactory();
+  }
+
+  /**
+   * 네이버 지역 검색 응답 변환
+   *
+   * @param response
+   * @return
+   */
+  public List<PlaceDto> decodeNaver(Response response) {
+    return decode(response, "NaverClient#searchLocalPlaces", NAVER_FIELDS);
+  }
+
+  /**
+   * 카카오 키워드 장소 검색 응답 변환
+   *
+   * @param response
+   * @return
+   */
+  public List<PlaceDto> decodeKakao(Response response) {
+    return decode(response, "KaKaoClient#searchKeywordPlaces", KAKAO_FIELDS);
+  }
+
+  public List<PlaceDto> decodeNaver(InputStream body) throws IOException {
+    return decode(body, NAVER_FIELDS);
+  }
+
+  public List<PlaceDto> decodeKakao(InputStream body) throws IOException {
+    return decode(body, KAKAO_FIELDS);
+  }
+
+  private List<PlaceDto> decode(Response response, String methodKey, PlaceFields fields) {
+    if (response.status() < 200 || response.status() >= 300) {
+      throw FeignException.errorStatus(methodKey, response);
+    }
+    if (response.body() == null) {
+      return List.of();
+    }
+
+    try (var body = response.body().asInputStream()) {
+      return decode(body, fields);
+    } catch (IOException e) {
+      throw new DecodeException(response.status(), "decode place response fail: " + e.getMessage(), response.request(), e);
+    }
+  }
+
+  private List<PlaceDto> decode(InputStream body, PlaceFields fields) throws IOException {
+    try (var parser = jsonFactory.createParser(body)) {
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        throw new JsonParseException(parser, "place response is not an object");
+      }
+
+      List<PlaceDto> places = new ArrayList<>();
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        var fieldName = parser.getCurrentName();
+        if (parser.nextToken() == JsonToken.START_ARRAY && fields.listField().equals(fieldName)) {
+          while (parser.nextToken() == JsonToken.START_OBJECT) {
+            places.add(decodePlace(parser, fields));
+          }
+        } else {
+          parser.skipChildren();
+        }
+      }
+      return places;
+    }
+  }
+
+  private PlaceDto decodePlace(JsonParser parser, PlaceFields fields) throws IOException {
+    var place = new PlaceDto();
+    place.setProviderType(fields.providerType());
+    String x = null;
+    String y = null;
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      var fieldName = parser.getCurrentName();
+      parser.nextToken();
+      if (fields.nameField().equals(fieldName)) {
+        place.setName(parser.getValueAsString());
+      } else if (fields.roadAddressField().equals(fieldName)) {
+        place.setRoadAddress(parser.getValueAsString());
+      } else if (fields.xField().equals(fieldName)) {
+        x = parser.getValueAsString();
+      } else if (fields.yField().equals(fieldName)) {
+        y = parser.getValueAsString();
+      } else {
+        parser.skipChildren();
+      }
+    }
+    place.setLocation(fields.location().apply(x, y));
+    return place;
+  }
+
+  /**
+   * 검색 API별로 읽을 필드 이름과 좌표 변환 방법
+   */
+  private record PlaceFields(ProviderType providerType, String listField, String nameField, String roadAddressField, String xField,
+                             String yField, BiFunction<String, String, GeoPoint> location) {
+
+  }
+}
@@ -14,4 +14,8 @@ public class Document {
 
   @JsonProperty("road_address_name")
   private String roadAddress;
+
+  private String x;
+
+  private String y;
 }
@@ -11,4 +11,8 @@ public class Item {
   private String title;
 
   private String roadAddress;
+
+  private String mapx;
+
+  private String mapy;
 }
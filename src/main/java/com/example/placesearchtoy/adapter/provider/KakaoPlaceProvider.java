@@ -0,0 +1,58 @@
+package com.example.placesearchtoy.adapter.provider;
+
+import com.example.placesearchtoy.adapter.service.KakaoService;
+import com.example.placesearchtoy.application.dto.PlaceDto;
+import com.example.placesearchtoy.application.mapper.PlaceMapper;
+import com.example.placesearchtoy.application.model.type.ProviderType;
+import com.example.placesearchtoy.application.provider.PlaceProvider;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+@Order(2)
+@Component
+@RequiredArgsConstructor
+public class KakaoPlaceProvider implements PlaceProvider {
+
+  private final KakaoService kakaoService;
+
+  private final PlaceMapper mapper;
+
+  @Value("${search.decoding.streaming}")
+  private boolean streamingDecoding;
+
+  @Override
+  public String getId() {
+    return ProviderType.KAKAO.name();
+  }
+
+  @Override
+  public int getPriority() {
+    return ProviderType.KAKAO.getPriority();
+  }
+
+  /**
+   * 카카오 키워드 장소 검색은 한 번에 최대 15개까지 조회한다.
+   *
+   * @return
+   */
+  @Override
+  public int getMaxPageSize() {
+    return 15;
+  }
+
+  @Override
+  public List<PlaceDto> fetch(String query, int size) {
+    return streamingDecoding
+        ? kakaoService.searchKeywordPlaces(query, size)
+        : mapper.documentsToPlaceDtos(kakaoService.searchKeywordDocuments(query, size), ProviderType.KAKAO);
+  }
+
+  @Override
+  public Mono<List<PlaceDto>> fetchAsync(String query, int size) {
+    return kakaoService.searchKeywordDocumentsAsync(query, size).map(documents -> mapper.documentsToPlaceDtos(documents, ProviderType.KAKAO));
+  }
+}
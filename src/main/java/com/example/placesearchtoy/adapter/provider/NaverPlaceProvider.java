@@ -0,0 +1,58 @@
+package com.example.placesearchtoy.adapter.provider;
+
+import com.example.placesearchtoy.adapter.service.NaverService;
+import com.example.placesearchtoy.application.dto.PlaceDto;
+import com.example.placesearchtoy.application.mapper.PlaceMapper;
+import com.example.placesearchtoy.application.model.type.ProviderType;
+import com.example.placesearchtoy.application.provider.PlaceProvider;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+@Order(1)
+@Component
+@RequiredArgsConstructor
+public class NaverPlaceProvider implements PlaceProvider {
+
+  private final NaverService naverService;
+
+  private final PlaceMapper mapper;
+
+  @Value("${search.decoding.streaming}")
+  private boolean streamingDecoding;
+
+  @Override
+  public String getId() {
+    return ProviderType.NAVER.name();
+  }
+
+  @Override
+  public int getPriority() {
+    return ProviderType.NAVER.getPriority();
+  }
+
+  /**
+   * 네이버 지역 검색은 한 번에 최대 5개까지 조회한다.
+   *
+   * @return
+   */
+  @Override
+  public int getMaxPageSize() {
+    return 5;
+  }
+
+  @Override
+  public List<PlaceDto> fetch(String query, int size) {
+    return streamingDecoding
+        ? naverService.searchLocalPlaces(query, size)
+        : mapper.itemsToPlaceDtos(naverService.searchLocalItems(query, size), ProviderType.NAVER);
+  }
+
+  @Override
+  public Mono<List<PlaceDto>> fetchAsync(String query, int size) {
+    return naverService.searchLocalItemsAsync(query, size).map(items -> mapper.itemsToPlaceDtos(items, ProviderType.NAVER));
+  }
+}
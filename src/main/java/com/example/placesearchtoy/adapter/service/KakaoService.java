@@ -1,26 +1,101 @@
 
 package com.example.placesearchtoy.adapter.service;
 
+import com.example.placesearchtoy.adapter.client.KakaoAsyncClient;
 import com.example.placesearchtoy.adapter.client.KaKaoClient;
+import com.example.placesearchtoy.adapter.decoder.PlaceResponseDecoder;
 import com.example.placesearchtoy.adapter.model.Document;
+import com.example.placesearchtoy.adapter.model.SearchKeywordResponse;
+import com.example.placesearchtoy.adapter.support.ProviderLatencyRecorder;
+import com.example.placesearchtoy.adapter.support.ProviderQuotaTracker;
+import com.example.placesearchtoy.adapter.support.ProviderTimeoutController;
+import com.example.placesearchtoy.adapter.support.RequestHedger;
+import com.example.placesearchtoy.application.dto.PlaceDto;
+import com.example.placesearchtoy.application.model.type.ProviderType;
+import io.github.resilience4j.bulkhead.annotation.Bulkhead;
+import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
+import io.github.resilience4j.ratelimiter.annotation.RateLimiter;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
 
-@Slf4j
 @Service
 @RequiredArgsConstructor
 public class KakaoService {
 
   private final KaKaoClient client;
+  private final RequestHedger requestHedger;
+  private final ProviderTimeoutController timeoutController;
+  private final ProviderQuotaTracker quotaTracker;
+  private final ProviderLatencyRecorder latencyRecorder;
+  private final PlaceResponseDecoder decoder;
+  private final KakaoAsyncClient asyncClient;
 
+  /**
+   * 카카오 키워드 장소 검색
+   * 최근 응답 시간으로 계산한 제한 시간 안에 응답이 없으면 요청을 포기하고, 응답이 늦어지면 헤지 요청을 보낸다.
+   * 서킷이 열려 있거나 동시 호출 수, 초당 호출 수, 일일 호출 한도를 초과하면 API를 호출하지 않고 예외를 발생시킨다.
+   *
+   * @param query
+   * @param size
+   * @return
+   */
+  @CircuitBreaker(name = "kakao")
+  @RateLimiter(name = "kakao")
+  @Bulkhead(name = "kakao")
   public List<Document> searchKeywordDocuments(String query, int size) {
-    try {
-      return size <= 0 ? List.of() : client.searchKeywordLocal(query, size).getDocuments();
-    } catch (RuntimeException e) {
-      log.warn("kakao search  service error", e);
+    if (size <= 0) {
       return List.of();
     }
+    var options = timeoutController.options(ProviderType.KAKAO);
+    return requestHedger.call(ProviderType.KAKAO, () -> {
+      quotaTracker.acquire(ProviderType.KAKAO);
+      return client.searchKeywordLocal(query, size, options);
+    }).getDocuments();
+  }
+
+  /**
+   * 카카오 키워드 장소 검색 - 응답을 장소 목록으로 바로 변환
+   * 응답 객체를 거치지 않고 스트리밍으로 읽어 장소 목록을 만든다. 호출 정책은 블로킹 호출과 같다.
+   *
+   * @param query
+   * @param size
+   * @return
+   */
+  @CircuitBreaker(name = "kakao")
+  @RateLimiter(name = "kakao")
+  @Bulkhead(name = "kakao")
+  public List<PlaceDto> searchKeywordPlaces(String query, int size) {
+    if (size <= 0) {
+      return List.of();
+    }
+    var options = timeoutController.options(ProviderType.KAKAO);
+    return requestHedger.call(ProviderType.KAKAO, () -> {
+      quotaTracker.acquire(ProviderType.KAKAO);
+      return decoder.decodeKakao(client.searchKeywordPlaces(query, size, options));
+    });
+  }
+
+  /**
+   * 카카오 키워드 장소 검색 - 논블로킹
+   * 응답을 기다리는 동안 스레드를 점유하지 않는다. 제한 시간과 호출 한도는 블로킹 호출과 같게 적용하고, 헤지 요청은 보내지 않는다.
+   *
+   * @param query
+   * @param size
+   * @return
+   */
+  @CircuitBreaker(name = "kakao")
+  @RateLimiter(name = "kakao")
+  @Bulkhead(name = "kakao")
+  public Mono<List<Document>> searchKeywordDocumentsAsync(String query, int size) {
+    if (size <= 0) {
+      return Mono.just(List.of());
+    }
+    var responseTimeout = timeoutController.readTimeout(ProviderType.KAKAO);
+    return latencyRecorder.timed(ProviderType.KAKAO, Mono.defer(() -> {
+      quotaTracker.acquire(ProviderType.KAKAO);
+      return asyncClient.searchKeywordLocal(query, size, responseTimeout);
+    })).map(SearchKeywordResponse::getDocuments);
   }
 }
@@ -1,27 +1,109 @@
 
 package com.example.placesearchtoy.adapter.service;
 
+import com.example.placesearchtoy.adapter.client.NaverAsyncClient;
 import com.example.placesearchtoy.adapter.client.NaverClient;
+import com.example.placesearchtoy.adapter.decoder.PlaceResponseDecoder;
 import com.example.placesearchtoy.adapter.model.Item;
+import com.example.placesearchtoy.adapter.model.SearchLocalResponse;
+import com.example.placesearchtoy.adapter.support.ProviderLatencyRecorder;
+import com.example.placesearchtoy.adapter.support.ProviderQuotaTracker;
+import com.example.placesearchtoy.adapter.support.ProviderTimeoutController;
+import com.example.placesearchtoy.adapter.support.RequestHedger;
+import com.example.placesearchtoy.application.dto.PlaceDto;
+import com.example.placesearchtoy.application.model.type.ProviderType;
+import io.github.resilience4j.bulkhead.annotation.Bulkhead;
+import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
+import io.github.resilience4j.ratelimiter.annotation.RateLimiter;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
 
-@Slf4j
 @Service
 @RequiredArgsConstructor
 public class NaverService {
 
   private final NaverClient client;
+  private final RequestHedger requestHedger;
+  private final ProviderTimeoutController timeoutController;
+  private final ProviderQuotaTracker quotaTracker;
+  private final ProviderLatencyRecorder latencyRecorder;
+  private final PlaceResponseDecoder decoder;
+  private final NaverAsyncClient asyncClient;
 
-  public List<Item> searchLocalItems(String query) {
-    try {
-      var maxSize = 5;
-      return client.searchLocals(query, maxSize).getItems();
-    } catch (RuntimeException e) {
-      log.warn("naver search local service error", e);
+  /**
+   * 네이버 지역 검색 API 한 번에 조회할 수 있는 최대 개수
+   */
+  private static final int MAX_DISPLAY = 5;
+
+  /**
+   * 네이버 지역 검색
+   * 최근 응답 시간으로 계산한 제한 시간 안에 응답이 없으면 요청을 포기하고, 응답이 늦어지면 헤지 요청을 보낸다.
+   * 서킷이 열려 있거나 동시 호출 수, 초당 호출 수, 일일 호출 한도를 초과하면 API를 호출하지 않고 예외를 발생시킨다.
+   *
+   * @param query
+   * @param size  최대 5개까지 조회한다.
+   * @return
+   */
+  @CircuitBreaker(name = "naver")
+  @RateLimiter(name = "naver")
+  @Bulkhead(name = "naver")
+  public List<Item> searchLocalItems(String query, int size) {
+    if (size <= 0) {
+      return List.of();
+    }
+    var display = Math.min(size, MAX_DISPLAY);
+    var options = timeoutController.options(ProviderType.NAVER);
+    return requestHedger.call(ProviderType.NAVER, () -> {
+      quotaTracker.acquire(ProviderType.NAVER);
+      return client.searchLocals(query, display, options);
+    }).getItems();
+  }
+
+  /**
+   * 네이버 지역 검색 - 응답을 장소 목록으로 바로 변환
+   * 응답 객체를 거치지 않고 스트리밍으로 읽어 장소 목록을 만든다. 호출 정책은 블로킹 호출과 같다.
+   *
+   * @param query
+   * @param size  최대 5개까지 조회한다.
+   * @return
+   */
+  @CircuitBreaker(name = "naver")
+  @RateLimiter(name = "naver")
+  @Bulkhead(name = "naver")
+  public List<PlaceDto> searchLocalPlaces(String query, int size) {
+    if (size <= 0) {
       return List.of();
     }
+    var display = Math.min(size, MAX_DISPLAY);
+    var options = timeoutController.options(ProviderType.NAVER);
+    return requestHedger.call(ProviderType.NAVER, () -> {
+      quotaTracker.acquire(ProviderType.NAVER);
+      return decoder.decodeNaver(client.searchLocalPlaces(query, display, options));
+    });
+  }
+
+  /**
+   * 네이버 지역 검색 - 논블로킹
+   * 응답을 기다리는 동안 스레드를 점유하지 않는다. 제한 시간과 호출 한도는 블로킹 호출과 같게 적용하고, 헤지 요청은 보내지 않는다.
+   *
+   * @param query
+   * @param size  최대 5개까지 조회한다.
+   * @return
+   */
+  @CircuitBreaker(name = "naver")
+  @RateLimiter(name = "naver")
+  @Bulkhead(name = "naver")
+  public Mono<List<Item>> searchLocalItemsAsync(String query, int size) {
+    if (size <= 0) {
+      return Mono.just(List.of());
+    }
+    var display = Math.min(size, MAX_DISPLAY);
+    var responseTimeout = timeoutController.readTimeout(ProviderType.NAVER);
+    return latencyRecorder.timed(ProviderType.NAVER, Mono.defer(() -> {
+      quotaTracker.acquire(ProviderType.NAVER);
+      return asyncClient.searchLocals(query, display, responseTimeout);
+    })).map(SearchLocalResponse::getItems);
   }
 }
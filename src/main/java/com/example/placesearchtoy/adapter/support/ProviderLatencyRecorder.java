@@ -0,0 +1,103 @@
+package com.example.placesearchtoy.adapter.support;
+
+import com.example.placesearchtoy.application.model.type.ProviderType;
+import io.netty.handler.timeout.TimeoutException;
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * 검색 API별 최근 응답 시간 기록
+ * API별로 최근 windowSize 건의 응답 시간만 유지한다.
+ */
+@Component
+public class ProviderLatencyRecorder {
+
+  private final int windowSize = 256;
+
+  private final Map<ProviderType, LatencyWindow> windows = new ConcurrentHashMap<>();
+
+  /**
+   * 응답 시간 기록
+   *
+   * @param providerType
+   * @param latencyNanos
+   */
+  public void record(ProviderType providerType, long latencyNanos) {
+    windows.computeIfAbsent(providerType, key -> new LatencyWindow(windowSize)).add(latencyNanos);
+  }
+
+  /**
+   * 응답 시간을 기록하며 요청
+   * 제한 시간 초과로 실패한 요청도 기록해야 응답이 느려졌을 때 제한 시간이 함께 늘어난다.
+   *
+   * @param providerType
+   * @param request
+   * @return
+   */
+  public <T> Mono<T> timed(ProviderType providerType, Mono<T> request) {
+    return Mono.defer(() -> {
+      var startedAt = System.nanoTime();
+      return request.doOnSuccess(value -> record(providerType, System.nanoTime() - startedAt))
+                    .doOnError(ProviderLatencyRecorder::isTimeout, e -> record(providerType, System.nanoTime() - startedAt));
+    });
+  }
+
+  /**
+   * 최근 응답 시간의 백분위 값 조회
+   * 기록된 응답 수가 minSamples보다 적으면 빈 값을 반환한다.
+   *
+   * @param providerType
+   * @param percentile
+   * @param minSamples
+   * @return
+   */
+  public Optional<Duration> percentile(ProviderType providerType, double percentile, int minSamples) {
+    var window = windows.get(providerType);
+    return window == null ? Optional.empty() : window.percentile(percentile, minSamples);
+  }
+
+  static boolean isTimeout(Throwable e) {
+    for (var cause = e; cause != null; cause = cause.getCause()) {
+      if (cause instanceof SocketTimeoutException || cause instanceof TimeoutException) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static class LatencyWindow {
+
+    private final long[] latencies;
+    private int next;
+    private int size;
+
+    LatencyWindow(int windowSize) {
+      this.latencies = new long[windowSize];
+    }
+
+    synchronized void add(long latencyNanos) {
+      latencies[next] = latencyNanos;
+      next = (next + 1) % latencies.length;
+      size = Math.min(size + 1, latencies.length);
+    }
+
+    Optional<Duration> percentile(double percentile, int minSamples) {
+      long[] sorted;
+      synchronized (this) {
+        if (size == 0 || size < minSamples) {
+          return Optional.empty();
+        }
+        sorted = Arrays.copyOf(latencies, size);
+      }
+      Arrays.sort(sorted);
+      var index = (int) Math.ceil(percentile / 100 * sorted.length) - 1;
+      return Optional.of(Duration.ofNanos(sorted[Math.min(Math.max(index, 0), sorted.length - 1)]));
+    }
+  }
+}
@@ -0,0 +1,10 @@
+package com.example.placesearchtoy.adapter.support;
+
+import com.example.placesearchtoy.application.model.type.ProviderType;
+
+public class ProviderQuotaExceededException extends RuntimeException {
+
+  public ProviderQuotaExceededException(ProviderType providerType, long dailyBudget) {
+    super("daily quota exceeded: provider - " + providerType + ", daily budget - " + dailyBudget);
+  }
+}
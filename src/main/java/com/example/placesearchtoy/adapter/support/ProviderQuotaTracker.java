@@ -0,0 +1,107 @@
+package com.example.placesearchtoy.adapter.support;
+
+import com.example.placesearchtoy.application.model.type.ProviderType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.EnumMap;
+import java.util.Map;
+import javax.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 검색 API별 일일 호출량 관리
+ * 일일 호출 한도를 모두 사용하면 API를 호출하지 않고 바로 예외를 발생시킨다. 호출량은 한국 시간 자정에 초기화한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProviderQuotaTracker {
+
+  private final MeterRegistry meterRegistry;
+
+  @Value("${search.quota.naver.daily-budget}")
+  private long naverDailyBudget;
+
+  @Value("${search.quota.kakao.daily-budget}")
+  private long kakaoDailyBudget;
+
+  private Clock clock = Clock.system(ZoneId.of("Asia/Seoul"));
+
+  private final Map<ProviderType, DailyUsage> usages = new EnumMap<>(ProviderType.class);
+
+  private final Map<ProviderType, Counter> rejectedCounters = new EnumMap<>(ProviderType.class);
+
+  @PostConstruct
+  public void post() {
+    for (var providerType : ProviderType.providers()) {
+      var usage = new DailyUsage();
+      var tag = providerType.name().toLowerCase();
+      usages.put(providerType, usage);
+      rejectedCounters.put(providerType, meterRegistry.counter("search.provider.quota.rejected", "provider", tag));
+      Gauge.builder("search.provider.quota.used", this, tracker -> tracker.getUsed(providerType))
+          .tag("provider", tag)
+          .register(meterRegistry);
+      Gauge.builder("search.provider.quota.remaining", this, tracker -> tracker.getRemaining(providerType))
+          .tag("provider", tag)
+          .register(meterRegistry);
+    }
+  }
+
+  /**
+   * 호출량 사용
+   * 일일 호출 한도를 모두 사용했으면 예외를 발생시킨다.
+   *
+   * @param providerType
+   */
+  public void acquire(ProviderType providerType) {
+    var dailyBudget = getDailyBudget(providerType);
+    if (!usages.get(providerType).tryAcquire(LocalDate.now(clock), dailyBudget)) {
+      rejectedCounters.get(providerType).increment();
+      throw new ProviderQuotaExceededException(providerType, dailyBudget);
+    }
+  }
+
+  public long getUsed(ProviderType providerType) {
+    return usages.get(providerType).getUsed(LocalDate.now(clock));
+  }
+
+  public long getRemaining(ProviderType providerType) {
+    return Math.max(getDailyBudget(providerType) - getUsed(providerType), 0);
+  }
+
+  private long getDailyBudget(ProviderType providerType) {
+    return providerType == ProviderType.NAVER ? naverDailyBudget : kakaoDailyBudget;
+  }
+
+  private static class DailyUsage {
+
+    private LocalDate date;
+    private long used;
+
+    synchronized boolean tryAcquire(LocalDate today, long dailyBudget) {
+      reset(today);
+      if (used >= dailyBudget) {
+        return false;
+      }
+      used++;
+      return true;
+    }
+
+    synchronized long getUsed(LocalDate today) {
+      reset(today);
+      return used;
+    }
+
+    private void reset(LocalDate today) {
+      if (!today.equals(date)) {
+        date = today;
+        used = 0;
+      }
+    }
+  }
+}
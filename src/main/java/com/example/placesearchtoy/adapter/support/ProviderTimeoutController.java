@@ -0,0 +1,78 @@
+package com.example.placesearchtoy.adapter.support;
+
+import com.example.placesearchtoy.application.model.type.ProviderType;
+import feign.Request;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 검색 API별 요청 제한 시간 계산
+ * 최근 응답 시간의 백분위 값에 여유 시간을 더하고, 최소/최대 제한 시간 사이로 맞춘다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProviderTimeoutController {
+
+  private final ProviderLatencyRecorder latencyRecorder;
+  private final MeterRegistry meterRegistry;
+
+  @Value("${search.timeout.percentile}")
+  private double percentile;
+
+  @Value("${search.timeout.margin}")
+  private Duration margin;
+
+  @Value("${search.timeout.floor}")
+  private Duration floor;
+
+  @Value("${search.timeout.ceiling}")
+  private Duration ceiling;
+
+  @Value("${search.timeout.min-samples}")
+  private int minSamples;
+
+  @Value("${search.timeout.connect-timeout}")
+  private Duration connectTimeout;
+
+  @PostConstruct
+  public void post() {
+    for (var providerType : ProviderType.providers()) {
+      Gauge.builder("search.provider.timeout", this, controller -> controller.readTimeout(providerType).toMillis())
+          .tag("provider", providerType.name().toLowerCase())
+          .baseUnit("milliseconds")
+          .register(meterRegistry);
+    }
+  }
+
+  /**
+   * 검색 API 요청 옵션 조회
+   *
+   * @param providerType
+   * @return
+   */
+  public Request.Options options(ProviderType providerType) {
+    return new Request.Options(connectTimeout.toMillis(), TimeUnit.MILLISECONDS,
+        readTimeout(providerType).toMillis(), TimeUnit.MILLISECONDS, true);
+  }
+
+  /**
+   * 검색 API 응답 제한 시간 계산
+   * 응답 시간 기록이 부족하면 최대 제한 시간을 사용한다.
+   *
+   * @param providerType
+   * @return
+   */
+  public Duration readTimeout(ProviderType providerType) {
+    return latencyRecorder.percentile(providerType, percentile, minSamples)
+        .map(latency -> latency.plus(margin))
+        .map(timeout -> timeout.compareTo(floor) < 0 ? floor : timeout)
+        .map(timeout -> timeout.compareTo(ceiling) > 0 ? ceiling : timeout)
+        .orElse(ceiling);
+  }
+}
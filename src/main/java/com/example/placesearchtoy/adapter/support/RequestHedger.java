@@ -0,0 +1,215 @@
+package com.example.placesearchtoy.adapter.support;
+
+import com.example.placesearchtoy.application.model.type.ProviderType;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import javax.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 검색 API 헤지 요청
+ * 첫 요청이 최근 응답 시간의 백분위 값보다 늦어지면 같은 요청을 한 번 더 보내고, 먼저 성공한 응답을 사용한다.
+ * 추가 요청은 전체 요청 수 대비 budgetRatio 비율까지만 허용하고, 첫 요청과 같은 검색 API의 동시 호출 수와 초당 호출 수 제한을 거친다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RequestHedger {
+
+  private final ProviderLatencyRecorder latencyRecorder;
+  private final MeterRegistry meterRegistry;
+  @Qualifier("hedgeExecutor")
+  private final AsyncTaskExecutor hedgeExecutor;
+  private final BulkheadRegistry bulkheadRegistry;
+  private final RateLimiterRegistry rateLimiterRegistry;
+
+  @Value("${search.hedging.enabled}")
+  private boolean enabled;
+
+  @Value("${search.hedging.delay-percentile}")
+  private double delayPercentile;
+
+  @Value("${search.hedging.min-samples}")
+  private int minSamples;
+
+  @Value("${search.hedging.budget-ratio}")
+  private double budgetRatio;
+
+  private final double maxBudget = 10;
+
+  private double budget;
+
+  private Counter hedgedCounter;
+  private Counter hedgeWonCounter;
+  private Counter budgetExhaustedCounter;
+  private Counter rejectedCounter;
+
+  @PostConstruct
+  public void post() {
+    hedgedCounter = meterRegistry.counter("search.provider.hedge", "result", "sent");
+    hedgeWonCounter = meterRegistry.counter("search.provider.hedge", "result", "won");
+    budgetExhaustedCounter = meterRegistry.counter("search.provider.hedge", "result", "budget-exhausted");
+    rejectedCounter = meterRegistry.counter("search.provider.hedge", "result", "rejected");
+  }
+
+  /**
+   * 검색 API 호출
+   * 헤지 요청을 보낼 수 없으면(헤지 미사용, 응답 시간 기록 부족, 추가 요청 예산 없음) 호출한 스레드에서 바로 요청한다.
+   * 헤지 요청을 보낸 경우 먼저 성공한 응답을 반환하고 나머지 요청은 취소한다.
+   * 실행기가 가득 차 첫 요청이 거절되면 호출한 스레드에서 바로 요청하고, 헤지 요청이 거절되면 예산을 돌려받고 첫 요청의 응답을 기다린다.
+   * 모든 요청이 실패하면 마지막 예외를 발생시킨다.
+   *
+   * @param providerType
+   * @param request
+   * @return
+   */
+  public <T> T call(ProviderType providerType, Supplier<T> request) {
+    Optional<Duration> hedgeDelay = enabled ? latencyRecorder.percentile(providerType, delayPercentile, minSamples) : Optional.empty();
+    if (hedgeDelay.isEmpty()) {
+      return timed(providerType, request);
+    }
+    if (!depositBudget()) {
+      return timed(providerType, request);
+    }
+
+    var response = new CompletableFuture<T>();
+    var pending = new AtomicInteger(1);
+    Future<?> primary;
+    try {
+      primary = hedgeExecutor.submit(() -> attempt(providerType, request, response, pending, false));
+    } catch (RejectedExecutionException e) {
+      rejectedCounter.increment();
+      return timed(providerType, request);
+    }
+    Future<?> hedge = null;
+    try {
+      try {
+        return response.get(hedgeDelay.get().toNanos(), TimeUnit.NANOSECONDS);
+      } catch (TimeoutException e) {
+        if (!tryAcquireBudget()) {
+          budgetExhaustedCounter.increment();
+          return response.get();
+        }
+        pending.incrementAndGet();
+        try {
+          hedge = hedgeExecutor.submit(() -> attempt(providerType, guarded(providerType, request), response, pending, true));
+        } catch (RejectedExecutionException rejected) {
+          pending.decrementAndGet();
+          refundBudget();
+          rejectedCounter.increment();
+          return response.get();
+        }
+        hedgedCounter.increment();
+        return response.get();
+      }
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw new IllegalStateException(e.getCause());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException(e);
+    } finally {
+      primary.cancel(true);
+      if (hedge != null) {
+        hedge.cancel(true);
+      }
+    }
+  }
+
+  private <T> void attempt(ProviderType providerType, Supplier<T> request, CompletableFuture<T> response,
+      AtomicInteger pending, boolean hedged) {
+    try {
+      if (response.complete(timed(providerType, request)) && hedged) {
+        hedgeWonCounter.increment();
+      }
+    } catch (RuntimeException e) {
+      if (response.isDone()) {
+        return;
+      }
+      log.warn("hedged request fail: provider - {}, hedged - {}, e - {}", providerType, hedged, e.toString());
+      if (pending.decrementAndGet() == 0) {
+        response.completeExceptionally(e);
+      }
+    }
+  }
+
+  /**
+   * 검색 API의 동시 호출 수와 초당 호출 수 제한을 거쳐 요청
+   * 첫 요청은 KakaoService, NaverService의 같은 이름 인스턴스를 이미 거쳤으므로 헤지 요청에만 적용한다.
+   * 허용되지 않으면 헤지 요청만 실패하고 첫 요청의 응답을 기다린다.
+   *
+   * @param providerType
+   * @param request
+   * @return
+   */
+  private <T> Supplier<T> guarded(ProviderType providerType, Supplier<T> request) {
+    var name = providerType.name().toLowerCase();
+    var rateLimited = RateLimiter.decorateSupplier(rateLimiterRegistry.rateLimiter(name), request);
+    return Bulkhead.decorateSupplier(bulkheadRegistry.bulkhead(name), rateLimited);
+  }
+
+  /**
+   * 응답 시간을 기록하며 요청
+   * 제한 시간 초과로 실패한 요청도 기록해야 응답이 느려졌을 때 제한 시간이 함께 늘어난다.
+   *
+   * @param providerType
+   * @param request
+   * @return
+   */
+  private <T> T timed(ProviderType providerType, Supplier<T> request) {
+    var startedAt = System.nanoTime();
+    try {
+      var value = request.get();
+      latencyRecorder.record(providerType, System.nanoTime() - startedAt);
+      return value;
+    } catch (RuntimeException e) {
+      if (ProviderLatencyRecorder.isTimeout(e)) {
+        latencyRecorder.record(providerType, System.nanoTime() - startedAt);
+      }
+      throw e;
+    }
+  }
+
+  /**
+   * 요청마다 추가 요청 예산 적립
+   *
+   * @return 헤지 요청을 보낼 예산이 있으면 true
+   */
+  private synchronized boolean depositBudget() {
+    budget = Math.min(budget + budgetRatio, maxBudget);
+    return budget >= 1;
+  }
+
+  private synchronized boolean tryAcquireBudget() {
+    if (budget < 1) {
+      return false;
+    }
+    budget -= 1;
+    return true;
+  }
+
+  private synchronized void refundBudget() {
+    budget = Math.min(budget + 1, maxBudget);
+  }
+}
@@ -0,0 +1,34 @@
+
+package com.example.placesearchtoy.application.cache;
+
+import com.example.placesearchtoy.application.dto.PlaceDto;
+import java.time.Duration;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+class CachedPlaces {
+
+  private final List<PlaceDto> places;
+
+  private final long writtenAt;
+
+  static CachedPlaces of(List<PlaceDto> places) {
+    return new CachedPlaces(places, System.nanoTime());
+  }
+
+  static CachedPlaces of(List<PlaceDto> places, Duration age) {
+    return new CachedPlaces(places, System.nanoTime() - age.toNanos());
+  }
+
+  Duration getAge() {
+    return Duration.ofNanos(System.nanoTime() - writtenAt);
+  }
+
+  boolean isOlderThan(Duration duration) {
+    return System.nanoTime() - writtenAt >= duration.toNanos();
+  }
+}
@@ -0,0 +1,286 @@
+
+package com.example.placesearchtoy.application.cache;
+
+import com.example.placesearchtoy.application.dto.PlaceDto;
+import com.example.placesearchtoy.application.model.PlaceSearchResult;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
+import javax.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PlaceCache {
+
+  private final MeterRegistry meterRegistry;
+
+  private final RedisPlaceCache redisPlaceCache;
+
+  @Qualifier("cacheRefreshExecutor")
+  private final Executor refreshExecutor;
+
+  @Value("${search.cache.maximum-size}")
+  private long maximumSize;
+
+  @Value("${search.cache.expire-after-write}")
+  private Duration expireAfterWrite;
+
+  @Value("${search.cache.refresh-after-write}")
+  private Duration refreshAfterWrite;
+
+  @Value("${search.cache.stale-while-revalidate}")
+  private boolean staleWhileRevalidate;
+
+  @Value("${search.cache.redis.enabled}")
+  private boolean redisEnabled;
+
+  private Cache<String, CachedPlaces> cache;
+
+  private Counter staleIfErrorCounter;
+
+  private final Set<String> refreshingQueries = ConcurrentHashMap.newKeySet();
+
+  /**
+   * 검색어의 장소 목록 조회
+   * 로컬 캐시 - 공유 캐시 - loader 순으로 조회한다.
+   * 갱신 주기(soft TTL)가 지난 목록은 그대로 반환하면서 백그라운드에서 한 번만 갱신하고, 만료 시간(hard TTL)이 지나면 새로 조회할 때까지 기다린다.
+   * 갱신 중 검색 API 오류가 발생하면 기존 목록을 유지한다.
+   *
+   * @param query
+   * @param loader
+   * @return
+   */
+  public List<PlaceDto> get(String query, Function<String, PlaceSearchResult> loader) {
+    var cached = cache.getIfPresent(query);
+    if (cached == null) {
+      return load(query, loader, expireAfterWrite, null);
+    }
+
+    if (!cached.isOlderThan(refreshAfterWrite)) {
+      return cached.getPlaces();
+    }
+
+    if (!staleWhileRevalidate) {
+      return load(query, loader, refreshAfterWrite, cached);
+    }
+
+    refresh(query, loader, cached);
+    return cached.getPlaces();
+  }
+
+  /**
+   * 캐시에 없거나 갱신 주기가 지난 검색어인지 확인
+   * 캐시 통계에 포함되지 않도록 조회한다.
+   *
+   * @param query
+   * @return
+   */
+  public boolean needsWarming(String query) {
+    var cached = cache.asMap().get(query);
+    return cached == null || cached.isOlderThan(refreshAfterWrite);
+  }
+
+  /**
+   * 검색어의 장소 목록을 미리 조회하여 저장
+   * 검색 API 오류 시에는 기존 목록을 유지한다.
+   *
+   * @param query
+   * @param loader
+   */
+  public void warm(String query, Function<String, PlaceSearchResult> loader) {
+    load(query, loader, refreshAfterWrite, cache.asMap().get(query));
+  }
+
+  private void refresh(String query, Function<String, PlaceSearchResult> loader, CachedPlaces stale) {
+    if (!refreshingQueries.add(query)) {
+      return;
+    }
+
+    try {
+      refreshExecutor.execute(() -> {
+        try {
+          load(query, loader, refreshAfterWrite, stale);
+        } catch (RuntimeException e) {
+          log.warn("place cache refresh fail: query - {}, e - {}", query, e.getMessage());
+        } finally {
+          refreshingQueries.remove(query);
+        }
+      });
+    } catch (RejectedExecutionException e) {
+      refreshingQueries.remove(query);
+      log.warn("place cache refresh rejected: query - {}", query);
+    }
+  }
+
+  /**
+   * 공유 캐시에 maxSharedAge보다 최신 목록이 있으면 로컬 캐시에 저장하고, 없으면 loader로 조회하여 두 캐시에 모두 저장
+   */
+  private List<PlaceDto> load(String query, Function<String, PlaceSearchResult> loader, Duration maxSharedAge, CachedPlaces stale) {
+    var shared = redisEnabled ? redisPlaceCache.get(query) : Optional.<CachedPlaces>empty();
+    if (shared.isPresent() && !shared.get().isOlderThan(maxSharedAge)) {
+      cache.put(query, shared.get());
+      return shared.get().getPlaces();
+    }
+
+    var result = loader.apply(query);
+    var loaded = store(query, result);
+    if (loaded == null) {
+      return keepStale(query, result, stale);
+    }
+    if (redisEnabled) {
+      redisPlaceCache.put(query, loaded);
+    }
+    return loaded.getPlaces();
+  }
+
+  /**
+   * 검색어의 장소 목록 조회 - 논블로킹
+   * 조회 순서와 갱신/만료 정책은 get과 같고, 공유 캐시와 loader를 논블로킹으로 호출한다.
+   *
+   * @param query
+   * @param loader
+   * @return
+   */
+  public Mono<List<PlaceDto>> getAsync(String query, Function<String, Mono<PlaceSearchResult>> loader) {
+    var cached = cache.getIfPresent(query);
+    if (cached == null) {
+      return loadAsync(query, loader, expireAfterWrite, null);
+    }
+
+    if (!cached.isOlderThan(refreshAfterWrite)) {
+      return Mono.just(cached.getPlaces());
+    }
+
+    if (!staleWhileRevalidate) {
+      return loadAsync(query, loader, refreshAfterWrite, cached);
+    }
+
+    refreshAsync(query, loader, cached);
+    return Mono.just(cached.getPlaces());
+  }
+
+  private void refreshAsync(String query, Function<String, Mono<PlaceSearchResult>> loader, CachedPlaces stale) {
+    if (!refreshingQueries.add(query)) {
+      return;
+    }
+
+    loadAsync(query, loader, refreshAfterWrite, stale)
+        .doFinally(signal -> refreshingQueries.remove(query))
+        .subscribe(places -> {
+        }, e -> log.warn("place cache refresh fail: query - {}, e - {}", query, e.getMessage()));
+  }
+
+  private Mono<List<PlaceDto>> loadAsync(String query, Function<String, Mono<PlaceSearchResult>> loader, Duration maxSharedAge,
+      CachedPlaces stale) {
+    var shared = redisEnabled ? redisPlaceCache.getAsync(query) : Mono.<CachedPlaces>empty();
+    return shared.filter(cachedPlaces -> !cachedPlaces.isOlderThan(maxSharedAge))
+                 .map(cachedPlaces -> {
+                   cache.put(query, cachedPlaces);
+                   return cachedPlaces.getPlaces();
+                 })
+                 .switchIfEmpty(Mono.defer(() -> loader.apply(query).flatMap(result -> storeAsync(query, result, stale))));
+  }
+
+  /**
+   * 조회 결과를 두 캐시에 저장 - 논블로킹
+   * 공유 캐시 저장이 끝난 뒤 목록을 전달하고, 공유 캐시 저장에 실패해도 목록은 전달한다.
+   */
+  private Mono<List<PlaceDto>> storeAsync(String query, PlaceSearchResult result, CachedPlaces stale) {
+    var loaded = store(query, result);
+    if (loaded == null) {
+      return Mono.just(keepStale(query, result, stale));
+    }
+    if (!redisEnabled) {
+      return Mono.just(loaded.getPlaces());
+    }
+
+    return redisPlaceCache.putAsync(query, loaded)
+                          .onErrorResume(e -> {
+                            log.warn("shared place cache put fail: query - {}, e - {}", query, e.getMessage());
+                            return Mono.just(false);
+                          })
+                          .then(Mono.just(loaded.getPlaces()));
+  }
+
+  /**
+   * 조회 결과를 로컬 캐시에 저장
+   * 일부 검색 API가 실패한 결과는 저장하지 않고 null을 반환한다.
+   */
+  private CachedPlaces store(String query, PlaceSearchResult result) {
+    if (!result.isComplete()) {
+      return null;
+    }
+
+    var loaded = CachedPlaces.of(result.getPlaces());
+    cache.put(query, loaded);
+    return loaded;
+  }
+
+  /**
+   * 일부 검색 API가 실패한 결과 대신 반환할 목록
+   * 기존 목록(stale)이 있으면 기존 목록을, 없으면 조회 결과를 반환한다.
+   */
+  private List<PlaceDto> keepStale(String query, PlaceSearchResult result, CachedPlaces stale) {
+    if (stale == null) {
+      return result.getPlaces();
+    }
+    staleIfErrorCounter.increment();
+    log.info("keep stale places on provider error: query - {}", query);
+    return stale.getPlaces();
+  }
+
+  public CacheStats stats() {
+    return cache.stats();
+  }
+
+  @PostConstruct
+  public void post() {
+    cache = Caffeine.newBuilder()
+                    .maximumSize(maximumSize)
+                    .expireAfter(new WrittenAtExpiry())
+                    .recordStats()
+                    .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, "places");
+    staleIfErrorCounter = meterRegistry.counter("cache.stale-if-error", "cache", "places");
+  }
+
+  /**
+   * 공유 캐시에서 가져온 목록도 최초 저장 시점 기준으로 만료되도록 목록의 경과 시간만큼 만료 시간을 차감
+   */
+  private class WrittenAtExpiry implements Expiry<String, CachedPlaces> {
+
+    @Override
+    public long expireAfterCreate(String query, CachedPlaces cachedPlaces, long currentTime) {
+      return Math.max(expireAfterWrite.minus(cachedPlaces.getAge()).toNanos(), 0);
+    }
+
+    @Override
+    public long expireAfterUpdate(String query, CachedPlaces cachedPlaces, long currentTime, long currentDuration) {
+      return expireAfterCreate(query, cachedPlaces, currentTime);
+    }
+
+    @Override
+    public long expireAfterRead(String query, CachedPlaces cachedPlaces, long currentTime, long currentDuration) {
+      return currentDuration;
+    }
+  }
+}
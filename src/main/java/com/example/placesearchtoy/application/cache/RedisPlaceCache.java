@@ -0,0 +1,147 @@
+
+package com.example.placesearchtoy.application.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Optional;
+import javax.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.ReactiveValueOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisPlaceCache {
+
+  private final RedisTemplate<String, String> redisTemplate;
+
+  private final ReactiveRedisTemplate<String, String> reactiveRedisTemplate;
+
+  private final ObjectMapper objectMapper;
+
+  private final MeterRegistry meterRegistry;
+
+  private ValueOperations<String, String> valueOperations;
+  private ReactiveValueOperations<String, String> reactiveValueOperations;
+
+  private Counter hitCounter;
+  private Counter missCounter;
+
+  @Value("${search.cache.redis.key-prefix}")
+  private String keyPrefix;
+
+  @Value("${search.cache.redis.time-to-live}")
+  private Duration timeToLive;
+
+  /**
+   * 공유 캐시에서 검색어의 장소 목록 조회
+   * 조회 오류는 캐시 미스로 처리한다.
+   *
+   * @param query
+   * @return
+   */
+  Optional<CachedPlaces> get(String query) {
+    var key = keyPrefix + query;
+    try {
+      var value = valueOperations.get(key);
+      if (value == null) {
+        missCounter.increment();
+        return Optional.empty();
+      }
+
+      hitCounter.increment();
+      return Optional.of(decode(value));
+    } catch (RuntimeException | JsonProcessingException e) {
+      log.warn("shared place cache get fail: key - {}, e - {}", key, e.getMessage());
+      missCounter.increment();
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * 공유 캐시에 검색어의 장소 목록 저장
+   *
+   * @param query
+   * @param cachedPlaces
+   */
+  void put(String query, CachedPlaces cachedPlaces) {
+    var key = keyPrefix + query;
+    try {
+      valueOperations.set(key, encode(cachedPlaces), timeToLive);
+    } catch (RuntimeException | JsonProcessingException e) {
+      log.warn("shared place cache put fail: key - {}, e - {}", key, e.getMessage());
+    }
+  }
+
+  /**
+   * 공유 캐시에서 검색어의 장소 목록 조회 - 논블로킹
+   * 조회 오류는 캐시 미스로 처리한다.
+   *
+   * @param query
+   * @return
+   */
+  Mono<CachedPlaces> getAsync(String query) {
+    var key = keyPrefix + query;
+    return reactiveValueOperations.get(key)
+                                  .<CachedPlaces>handle((value, sink) -> {
+                                    try {
+                                      sink.next(decode(value));
+                                    } catch (JsonProcessingException e) {
+                                      sink.error(e);
+                                    }
+                                  })
+                                  .doOnNext(cachedPlaces -> hitCounter.increment())
+                                  .switchIfEmpty(Mono.fromRunnable(missCounter::increment))
+                                  .onErrorResume(e -> {
+                                    log.warn("shared place cache get fail: key - {}, e - {}", key, e.getMessage());
+                                    missCounter.increment();
+                                    return Mono.empty();
+                                  });
+  }
+
+  /**
+   * 공유 캐시에 검색어의 장소 목록 저장 - 논블로킹
+   *
+   * @param query
+   * @param cachedPlaces
+   * @return
+   */
+  Mono<Boolean> putAsync(String query, CachedPlaces cachedPlaces) {
+    var key = keyPrefix + query;
+    return Mono.fromCallable(() -> encode(cachedPlaces))
+               .flatMap(value -> reactiveValueOperations.set(key, value, timeToLive))
+               .onErrorResume(e -> {
+                 log.warn("shared place cache put fail: key - {}, e - {}", key, e.getMessage());
+                 return Mono.just(false);
+               });
+  }
+
+  private CachedPlaces decode(String value) throws JsonProcessingException {
+    var shared = objectMapper.readValue(value, SharedPlaces.class);
+    var age = Duration.ofMillis(Math.max(System.currentTimeMillis() - shared.getWrittenAt(), 0));
+    return CachedPlaces.of(shared.getPlaces(), age);
+  }
+
+  private String encode(CachedPlaces cachedPlaces) throws JsonProcessingException {
+    var writtenAt = System.currentTimeMillis() - cachedPlaces.getAge().toMillis();
+    return objectMapper.writeValueAsString(SharedPlaces.of(writtenAt, cachedPlaces.getPlaces()));
+  }
+
+  @PostConstruct
+  public void post() {
+    valueOperations = redisTemplate.opsForValue();
+    reactiveValueOperations = reactiveRedisTemplate.opsForValue();
+    hitCounter = meterRegistry.counter("cache.shared.gets", "cache", "places", "result", "hit");
+    missCounter = meterRegistry.counter("cache.shared.gets", "cache", "places", "result", "miss");
+  }
+}
@@ -0,0 +1,18 @@
+
+package com.example.placesearchtoy.application.cache;
+
+import com.example.placesearchtoy.application.dto.PlaceDto;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor(staticName = "of")
+class SharedPlaces {
+
+  private long writtenAt;
+
+  private List<PlaceDto> places;
+}
@@ -1,10 +1,11 @@
 
 package com.example.placesearchtoy.application.dto;
 
+import com.example.placesearchtoy.application.model.GeoPoint;
 import com.example.placesearchtoy.application.model.type.ProviderType;
+import com.example.placesearchtoy.application.support.PlaceKeyNormalizer;
 import com.fasterxml.jackson.annotation.JsonIgnore;
-import java.util.Arrays;
-import java.util.stream.Collectors;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
@@ -22,30 +23,29 @@ public class PlaceDto {
   private int matchCount;
   @JsonIgnore
   private ProviderType providerType;
+  @JsonIgnore
+  private GeoPoint location;
 
+  @JsonIgnore
+  @Getter(AccessLevel.NONE)
+  @Setter(AccessLevel.NONE)
+  @ToString.Exclude
+  private String nameWithAddress;
+
+  /**
+   * 중복 판단 키 조회
+   * 처음 조회할 때 한 번만 만들고, 장소명이나 도로명 주소가 바뀌면 다시 만든다.
+   *
+   * @return
+   */
   @JsonIgnore
   public String getNameWithAddress() {
-    final String filterBracket = "\\(.*\\)|\\[.*]|<.*>";
-    final String filterSuffix = "특별시|광역시|특별자치도|도|시|지하";
-
-    var filteredName = name.split(" ")[0].replaceAll(filterBracket, "");
-    var filteredAddress = roadAddress.replaceAll(filterSuffix, "");
-
-    var concatKey = filteredName + " " + filteredAddress;
-    String[] splitKeys = concatKey.split("\\s+");
-    String[] keys = splitKeys.length > 5 ? Arrays.copyOfRange(splitKeys, 0, 5) : splitKeys;
-
-    return Arrays.stream(keys).filter(address -> !hasExceptWord(address)).collect(Collectors.joining());
-  }
-
-  private boolean hasExceptWord(String roadAddress) {
-    final String[] exceptWordInRoadAddress = {"빌딩", "층", "호"};
-    for (String wordInRoadAddress : exceptWordInRoadAddress) {
-      if (roadAddress.contains(wordInRoadAddress)) {
-        return true;
-      }
+    var key = nameWithAddress;
+    if (key == null) {
+      key = PlaceKeyNormalizer.normalize(name, roadAddress);
+      nameWithAddress = key;
     }
-    return false;
+    return key;
   }
 
   public void updateMatchCount(int matchCount) {
@@ -57,7 +57,40 @@ public class PlaceDto {
   }
 
   public void setName(String name) {
-    this.name = name.replaceAll("<b>|</b>", "");
+    this.name = removeBoldTags(name);
+    this.nameWithAddress = null;
+  }
+
+  public void setRoadAddress(String roadAddress) {
+    this.roadAddress = roadAddress;
+    this.nameWithAddress = null;
+  }
+
+  /**
+   * 검색어 강조 태그(<b>, </b>) 제거
+   * 정규식 없이 한 번 순회하며 제거하고, 태그가 없으면 원본 문자열을 그대로 반환한다.
+   *
+   * @param name
+   * @return
+   */
+  private static String removeBoldTags(String name) {
+    var tagStart = name.indexOf('<');
+    if (tagStart < 0) {
+      return name;
+    }
+
+    var builder = new StringBuilder(name.length());
+    builder.append(name, 0, tagStart);
+    for (int i = tagStart; i < name.length(); ) {
+      if (name.startsWith("<b>", i)) {
+        i += 3;
+      } else if (name.startsWith("</b>", i)) {
+        i += 4;
+      } else {
+        builder.append(name.charAt(i++));
+      }
+    }
+    return builder.toString();
   }
 
   @Override
@@ -5,28 +5,43 @@ import com.example.placesearchtoy.adapter.model.Document;
 import com.example.placesearchtoy.adapter.model.Item;
 import com.example.placesearchtoy.application.dto.PlaceDto;
 import com.example.placesearchtoy.application.model.type.ProviderType;
+import com.example.placesearchtoy.application.support.GeoCoordinates;
 import java.util.List;
+import org.mapstruct.AfterMapping;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
 import org.mapstruct.Mappings;
 
 @Mapper(componentModel = "spring")
 public interface PlaceMapper {
 
   @Mappings({
-      @Mapping(target = "name", source = "document.placeName")
+      @Mapping(target = "name", source = "document.placeName"),
+      @Mapping(target = "location", ignore = true)
   })
   PlaceDto toPlaceDto(Document document, ProviderType providerType);
 
+  @AfterMapping
+  default void setLocation(Document document, @MappingTarget PlaceDto placeDto) {
+    placeDto.setLocation(GeoCoordinates.fromKakao(document.getX(), document.getY()));
+  }
+
   default List<PlaceDto> documentsToPlaceDtos(List<Document> documents, ProviderType providerType) {
     return documents.stream().map(document -> toPlaceDto(document, providerType)).toList();
   }
 
   @Mappings({
-      @Mapping(target = "name", source = "item.title")
+      @Mapping(target = "name", source = "item.title"),
+      @Mapping(target = "location", ignore = true)
   })
   PlaceDto toPlaceDto(Item item, ProviderType providerType);
 
+  @AfterMapping
+  default void setLocation(Item item, @MappingTarget PlaceDto placeDto) {
+    placeDto.setLocation(GeoCoordinates.fromNaver(item.getMapx(), item.getMapy()));
+  }
+
   default List<PlaceDto> itemsToPlaceDtos(List<Item> items, ProviderType providerType) {
     return items.stream().map(item -> toPlaceDto(item, providerType)).toList();
   }
@@ -0,0 +1,18 @@
+package com.example.placesearchtoy.application.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * WGS84 경위도 좌표
+ */
+@Getter
+@ToString
+@AllArgsConstructor(staticName = "of")
+public class GeoPoint {
+
+  private final double latitude;
+
+  private final double longitude;
+}
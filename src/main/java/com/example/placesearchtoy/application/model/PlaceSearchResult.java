@@ -0,0 +1,19 @@
+
+package com.example.placesearchtoy.application.model;
+
+import com.example.placesearchtoy.application.dto.PlaceDto;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 병합된 장소 목록과 모든 검색 API가 정상 응답했는지 여부
+ */
+@Getter
+@AllArgsConstructor(staticName = "of")
+public class PlaceSearchResult {
+
+  private final List<PlaceDto> places;
+
+  private final boolean complete;
+}
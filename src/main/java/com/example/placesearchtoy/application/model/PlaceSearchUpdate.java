@@ -0,0 +1,32 @@
+package com.example.placesearchtoy.application.model;
+
+import com.example.placesearchtoy.application.dto.PlaceDto;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 장소 목록 스트리밍 조회 중간/최종 결과
+ * 중간 결과는 지금까지 응답한 검색 API의 결과만 병합한 목록이다.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class PlaceSearchUpdate {
+
+  private final List<PlaceDto> places;
+
+  private final int respondedProviders;
+
+  private final int totalProviders;
+
+  private final boolean completed;
+
+  public static PlaceSearchUpdate partial(List<PlaceDto> places, int respondedProviders, int totalProviders) {
+    return new PlaceSearchUpdate(places, respondedProviders, totalProviders, false);
+  }
+
+  public static PlaceSearchUpdate completed(List<PlaceDto> places, int totalProviders) {
+    return new PlaceSearchUpdate(places, totalProviders, totalProviders, true);
+  }
+}
@@ -0,0 +1,28 @@
+package com.example.placesearchtoy.application.model;
+
+import com.example.placesearchtoy.application.dto.PlaceDto;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class ProviderPlaces {
+
+  private final String providerId;
+
+  private final int priority;
+
+  private final List<PlaceDto> places;
+
+  private final boolean failed;
+
+  public static ProviderPlaces of(String providerId, int priority, List<PlaceDto> places) {
+    return new ProviderPlaces(providerId, priority, places, false);
+  }
+
+  public static ProviderPlaces failed(String providerId, int priority) {
+    return new ProviderPlaces(providerId, priority, List.of(), true);
+  }
+}
@@ -0,0 +1,15 @@
+package com.example.placesearchtoy.application.model.type;
+
+/**
+ * 키워드 검색 횟수 대기열이 가득 찼을 때 처리 방식
+ */
+public enum KeywordHitOverflowPolicy {
+  /**
+   * 버리고 버린 횟수만 기록
+   */
+  DROP,
+  /**
+   * 키워드별 횟수로 합쳐 두었다가 다음 소비 때 함께 반영, 합칠 수 있는 키워드 수를 넘으면 버림
+   */
+  COALESCE
+}
@@ -0,0 +1,19 @@
+package com.example.placesearchtoy.application.model.type;
+
+/**
+ * 키워드 검색 횟수 집계 방식
+ */
+public enum KeywordHitsBackend {
+  /**
+   * 레디스 분 단위 키에 정확한 횟수를 저장하고 스케쥴러가 1분마다 10분 누적 순위를 만든다.
+   */
+  REDIS,
+  /**
+   * 서버마다 분 단위 근사 요약만 레디스에 저장하고 조회 시 합친다.
+   */
+  SKETCH,
+  /**
+   * 서버 메모리의 슬라이딩 윈도우로 집계하고 조회한다.
+   */
+  SLIDING_WINDOW
+}
@@ -1,6 +1,7 @@
 
 package com.example.placesearchtoy.application.model.type;
 
+import java.util.List;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -14,4 +15,14 @@ public enum ProviderType {
 
   private final String name;
   private final int priority;
+
+  /**
+   * 실제 검색 API 목록
+   * NOT_DEFINED는 검색 API가 아니므로 API별 지표와 호출 한도에서 제외한다.
+   *
+   * @return
+   */
+  public static List<ProviderType> providers() {
+    return List.of(KAKAO, NAVER);
+  }
 }
@@ -0,0 +1,58 @@
+package com.example.placesearchtoy.application.provider;
+
+import com.example.placesearchtoy.application.dto.PlaceDto;
+import java.util.List;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * 장소 검색 API
+ * 구현체를 빈으로 등록하면 장소 검색 시 다른 검색 API와 함께 동시에 호출되고, 결과는 우선순위에 따라 병합된다.
+ * 순차 호출 모드에서는 빈 순서(@Order)대로 호출한다.
+ */
+public interface PlaceProvider {
+
+  /**
+   * 검색 API 식별자
+   * 로그와 메트릭 태그에 사용한다.
+   *
+   * @return
+   */
+  String getId();
+
+  /**
+   * 병합 우선순위
+   * 값이 작을수록 우선한다.
+   *
+   * @return
+   */
+  int getPriority();
+
+  /**
+   * 한 번에 조회할 수 있는 최대 장소 개수
+   *
+   * @return
+   */
+  int getMaxPageSize();
+
+  /**
+   * 장소 목록 조회
+   *
+   * @param query
+   * @param size
+   * @return
+   */
+  List<PlaceDto> fetch(String query, int size);
+
+  /**
+   * 장소 목록 조회 - 논블로킹
+   * 논블로킹 클라이언트가 없는 검색 API는 블로킹 조회를 boundedElastic 스케줄러에서 실행한다.
+   *
+   * @param query
+   * @param size
+   * @return
+   */
+  default Mono<List<PlaceDto>> fetchAsync(String query, int size) {
+    return Mono.fromCallable(() -> fetch(query, size)).subscribeOn(Schedulers.boundedElastic());
+  }
+}
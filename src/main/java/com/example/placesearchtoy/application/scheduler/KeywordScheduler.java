@@ -1,21 +1,19 @@
-
 package com.example.placesearchtoy.application.scheduler;
 
+import com.example.placesearchtoy.application.model.type.KeywordHitsBackend;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.Map;
-import java.util.Objects;
-import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.ArrayList;
+import java.util.List;
 import javax.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
-import org.springframework.data.redis.core.ZSetOperations;
-import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
@@ -26,7 +24,6 @@ public class KeywordScheduler {
 
   private final RedisTemplate<String, String> redisTemplate;
 
-  private ZSetOperations<String, String> zSetOperations;
   private ValueOperations<String, String> valueOperations;
 
   @Value("${keyword.redis-key-prefix.minute-ranking}")
@@ -41,71 +38,50 @@ public class KeywordScheduler {
   @Value("${keyword.redis-key-prefix.distributed-lock}")
   private String distributedLockKey;
 
+  @Value("${keyword.hits.backend}")
+  private KeywordHitsBackend backend;
+
+  @Value("${keyword.accumulate-ranking.top-k}")
+  private int accumulateTopK;
+
   private final int accumulateStandardMinute = 10;
+  private final Duration defaultTTL = Duration.ofMinutes(15);
   private final DateTimeFormatter suffixFormatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
 
+  private final RedisScript<Long> accumulateRankingScript = RedisScript.of(new ClassPathResource("scripts/accumulate-ranking.lua"), Long.class);
+
   /**
    * 누적 키워드 조회 정보 저장
+   * 최근 10분간의 분 단위 키를 레디스 안에서 합쳐 현재 분 누적 키에 저장하고, 상위 키워드만 남긴 뒤 조회 키를 바꾼다.
+   * 하나의 스크립트로 실행하므로 한 번의 호출로 끝나고, 중간에 들어온 검색 횟수도 빠지지 않는다.
+   *
+   * 합산 범위는 진행 중인 분을 포함한 now-9 ~ now 분이다.
+   * 현재 분 누적 키는 이번 분의 검색 횟수를 계속 받는 키이기도 해서 합산 결과로 덮어쓰이므로,
+   * 실행 전에 이미 들어온 이번 분의 검색 횟수를 잃지 않도록 현재 분 키를 함께 합산한다. 이후 검색 횟수는 누적 키에 바로 더해진다.
    */
   @Scheduled(cron = "0 0/1 * * * *")
   public void createAccumulateRanking() {
-    var now = LocalDateTime.now();
-    if (!tryLock(distributedLockKey + now.format(suffixFormatter))) {
+    if (backend != KeywordHitsBackend.REDIS) {
       return;
     }
 
-    var previousTop30s = getPreviousAccumulateTop30s(now, 1);
-    if (previousTop30s == null || previousTop30s.size() <= 0) {
+    var now = LocalDateTime.now();
+    if (!tryLock(distributedLockKey + now.format(suffixFormatter))) {
       return;
     }
 
-    var tenMinuteAgos = getMinuteAgos(now, accumulateStandardMinute);
     var currentAccumulateKey = accumulateKeyPrefix + now.format(suffixFormatter);
-    previousTop30s.forEach(element -> incrementScore(currentAccumulateKey, element, tenMinuteAgos));
-
-    updateViewKey(currentAccumulateKey);
-  }
-
-  private Set<TypedTuple<String>> getPreviousAccumulateTop30s(LocalDateTime now, int minute) {
-    var previousAccumulateKey = accumulateKeyPrefix + now.minusMinutes(minute).format(suffixFormatter);
-
-    try {
-      return zSetOperations.reverseRangeWithScores(previousAccumulateKey, 0, 30);
-    } catch (RuntimeException e) {
-      log.warn("get previous top 30s fail, key - {}, e - {}", previousAccumulateKey, e.getMessage());
-      return Set.of();
-    }
-  }
-
-  private Map<String, Long> getMinuteAgos(LocalDateTime now, int minute) {
-    var minuteAgoKey = minuteKeyPrefix + now.minusMinutes(minute).format(suffixFormatter);
-
-    try {
-      return Objects.requireNonNullElse(zSetOperations.rangeWithScores(minuteAgoKey, 0, -1), Set.<TypedTuple<String>>of())
-                    .stream()
-                    .collect(Collectors.toMap(TypedTuple::getValue, it -> Objects.requireNonNullElse(it.getScore(), 0).longValue()));
-    } catch (RuntimeException e) {
-      log.warn("get minute agos fail, key - {}, e - {}", minuteAgoKey, e.getMessage());
-      return Map.of();
+    List<String> keys = new ArrayList<>(accumulateStandardMinute + 2);
+    keys.add(currentAccumulateKey);
+    keys.add(viewKey);
+    for (int minute = accumulateStandardMinute - 1; minute >= 0; minute--) {
+      keys.add(minuteKeyPrefix + now.minusMinutes(minute).format(suffixFormatter));
     }
-  }
-
-  private void incrementScore(String key, TypedTuple<String> element, Map<String, Long> minuteAgos) {
-    try {
-      var score = minuteAgos.size() <= 0 ? element.getScore() : element.getScore() - minuteAgos.getOrDefault(element.getValue(), 0L);
-      if (score > 0) {
-        zSetOperations.incrementScore(key, element.getValue(), score);
-      }
-    } catch (RuntimeException e) {
-      log.error("scheduler increment fail : e - {}", e.getMessage());
-    }
-  }
 
-  private void updateViewKey(String currentAccumulateKey) {
     try {
-      valueOperations.set(viewKey, currentAccumulateKey);
+      redisTemplate.execute(accumulateRankingScript, keys, String.valueOf(accumulateTopK), String.valueOf(defaultTTL.toSeconds()));
     } catch (RuntimeException e) {
-      log.error("update view key fail : key - {}, e - {}", currentAccumulateKey, e.getMessage());
+      log.error("create accumulate ranking fail : key - {}, e - {}", currentAccumulateKey, e.getMessage());
     }
   }
 
@@ -117,13 +93,12 @@ public class KeywordScheduler {
    */
   public boolean tryLock(String key) {
     var increment = valueOperations.increment(key);
-    redisTemplate.expire(key, Duration.ofMinutes(15));
+    redisTemplate.expire(key, defaultTTL);
     return increment != null && increment == 1;
   }
 
   @PostConstruct
   public void post() {
-    zSetOperations = redisTemplate.opsForZSet();
     valueOperations = redisTemplate.opsForValue();
   }
 }
@@ -0,0 +1,134 @@
+
+package com.example.placesearchtoy.application.scheduler;
+
+import com.example.placesearchtoy.application.cache.PlaceCache;
+import com.example.placesearchtoy.application.dto.KeywordDto;
+import com.example.placesearchtoy.application.service.KeywordHitsService;
+import com.example.placesearchtoy.application.service.SearchQueryService;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PlaceCacheWarmer {
+
+  private final KeywordHitsService keywordHitsService;
+
+  private final SearchQueryService searchQueryService;
+
+  private final PlaceCache placeCache;
+
+  @Qualifier("cacheWarmExecutor")
+  private final Executor warmExecutor;
+
+  @Value("${search.cache.warm.enabled}")
+  private boolean enabled;
+
+  @Value("${search.cache.warm.top-keywords}")
+  private int topKeywords;
+
+  @Value("${search.cache.warm.max-provider-calls-per-minute}")
+  private int maxProviderCallsPerMinute;
+
+  private LocalDateTime budgetMinute;
+  private int usedProviderCalls;
+
+  /**
+   * 인기 키워드 장소 목록 캐시 갱신
+   * 누적 키워드 조회 정보가 저장된 뒤에 실행되도록 매분 30초에 실행한다.
+   */
+  @Scheduled(cron = "30 0/1 * * * *")
+  public void warmTopKeywords() {
+    if (!enabled) {
+      return;
+    }
+
+    for (KeywordDto keyword : keywordHitsService.searchTopKeywordHits(topKeywords)) {
+      var query = keyword.getTitle();
+      if (!placeCache.needsWarming(query)) {
+        continue;
+      }
+
+      var providerCalls = searchQueryService.getProviderCount();
+      if (!tryAcquireProviderCalls(providerCalls)) {
+        log.info("place cache warm budget exhausted: max provider calls per minute - {}", maxProviderCallsPerMinute);
+        return;
+      }
+      warm(query, providerCalls);
+    }
+  }
+
+  /**
+   * 새로 배포된 인스턴스도 인기 키워드는 캐시된 상태로 요청을 받도록 시작 시점에 캐시 갱신
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void warmOnStartup() {
+    warmTopKeywords();
+  }
+
+  /**
+   * 키워드 장소 목록 캐시 갱신 요청
+   * 실행기가 가득 차 거절되면 검색 API를 호출하지 않으므로 차감한 호출 한도를 돌려준다.
+   *
+   * @param query
+   * @param providerCalls
+   */
+  private void warm(String query, int providerCalls) {
+    try {
+      warmExecutor.execute(() -> {
+        try {
+          searchQueryService.warmPlaces(query);
+        } catch (RuntimeException e) {
+          log.warn("place cache warm fail: query - {}, e - {}", query, e.getMessage());
+        }
+      });
+    } catch (RejectedExecutionException e) {
+      log.warn("place cache warm rejected: query - {}", query);
+      releaseProviderCalls(providerCalls);
+    }
+  }
+
+  /**
+   * 분 단위 검색 API 호출 한도 차감
+   *
+   * @param calls
+   * @return
+   */
+  synchronized boolean tryAcquireProviderCalls(int calls) {
+    var currentMinute = LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES);
+    if (!currentMinute.equals(budgetMinute)) {
+      budgetMinute = currentMinute;
+      usedProviderCalls = 0;
+    }
+
+    if (usedProviderCalls + calls > maxProviderCallsPerMinute) {
+      return false;
+    }
+    usedProviderCalls += calls;
+    return true;
+  }
+
+  /**
+   * 분 단위 검색 API 호출 한도 반환
+   * 차감한 뒤 분이 바뀌었으면 이미 한도가 초기화되었으므로 반환하지 않는다.
+   *
+   * @param calls
+   */
+  synchronized void releaseProviderCalls(int calls) {
+    var currentMinute = LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES);
+    if (currentMinute.equals(budgetMinute)) {
+      usedProviderCalls = Math.max(usedProviderCalls - calls, 0);
+    }
+  }
+}
@@ -0,0 +1,216 @@
+package com.example.placesearchtoy.application.service;
+
+import com.example.placesearchtoy.application.model.KeywordHitEvent;
+import com.example.placesearchtoy.application.model.type.KeywordHitOverflowPolicy;
+import com.example.placesearchtoy.application.support.MpscRingBuffer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.logging.log4j.util.Strings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 키워드 검색 횟수 수집 대기열
+ * 검색 요청 스레드는 크기가 고정된 링 버퍼에 키워드를 넣기만 하고, 고정된 수의 소비 스레드가 모아서 꺼내 KeywordHitsService에 반영한다.
+ * 키워드마다 같은 소비 스레드로 보내므로 소비 스레드마다 단일 소비자 링 버퍼를 하나씩 둔다.
+ * 대기열이 가득 차면 검색 요청을 기다리게 하지 않고 설정한 방식대로 버리거나 합치므로, 레디스가 느려져도 메모리 사용량이 늘지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class KeywordHitPipeline {
+
+  private final KeywordHitsService keywordHitsService;
+
+  private final MeterRegistry meterRegistry;
+
+  @Value("${keyword.hits.queue.capacity}")
+  private int capacity;
+
+  @Value("${keyword.hits.queue.consumers}")
+  private int consumers;
+
+  @Value("${keyword.hits.queue.batch-size}")
+  private int batchSize;
+
+  @Value("${keyword.hits.queue.overflow-policy}")
+  private KeywordHitOverflowPolicy overflowPolicy;
+
+  @Value("${keyword.hits.queue.coalesce-max-keywords}")
+  private int coalesceMaxKeywords;
+
+  private final Duration idleWait = Duration.ofMillis(10);
+
+  private List<Shard> shards;
+
+  private Counter droppedCounter;
+  private Counter coalescedCounter;
+
+  private volatile boolean running;
+
+  @PostConstruct
+  public void post() {
+    droppedCounter = meterRegistry.counter("keyword.hits.queue.overflow", "result", "dropped");
+    coalescedCounter = meterRegistry.counter("keyword.hits.queue.overflow", "result", "coalesced");
+    Gauge.builder("keyword.hits.queue.depth", this, KeywordHitPipeline::getDepth)
+        .register(meterRegistry);
+
+    running = true;
+    shards = new ArrayList<>(consumers);
+    for (int i = 0; i < consumers; i++) {
+      var shard = new Shard(new MpscRingBuffer<>(Math.max(1, capacity / consumers)));
+      shard.consumer = new Thread(() -> consume(shard), "keyword-hit-" + i);
+      shard.consumer.setDaemon(true);
+      shards.add(shard);
+    }
+    shards.forEach(shard -> shard.consumer.start());
+  }
+
+  /**
+   * 키워드 검색 이벤트 수신
+   *
+   * @param keywordHitEvent
+   */
+  @EventListener
+  public void onKeywordHit(KeywordHitEvent keywordHitEvent) {
+    offer(keywordHitEvent.getKeyword());
+  }
+
+  /**
+   * 키워드 검색 횟수 대기열에 추가
+   * 기다리지 않으며, 대기열이 가득 차면 설정한 방식대로 버리거나 합친다.
+   *
+   * @param keyword
+   */
+  public void offer(String keyword) {
+    if (Strings.isBlank(keyword)) {
+      return;
+    }
+
+    var shard = shards.get(Math.floorMod(keyword.hashCode(), shards.size()));
+    if (shard.buffer.offer(keyword)) {
+      shard.wakeUp();
+      return;
+    }
+
+    if (overflowPolicy == KeywordHitOverflowPolicy.COALESCE && coalesce(shard, keyword)) {
+      coalescedCounter.increment();
+      return;
+    }
+    droppedCounter.increment();
+  }
+
+  private boolean coalesce(Shard shard, String keyword) {
+    var hits = shard.overflow.get(keyword);
+    if (hits == null) {
+      if (shard.overflow.size() >= coalesceMaxKeywords) {
+        return false;
+      }
+      hits = shard.overflow.computeIfAbsent(keyword, key -> new LongAdder());
+    }
+    hits.increment();
+    return true;
+  }
+
+  private void consume(Shard shard) {
+    while (running) {
+      if (drain(shard) > 0) {
+        continue;
+      }
+
+      shard.waiting = true;
+      if (shard.buffer.size() == 0 && running) {
+        LockSupport.parkNanos(this, idleWait.toNanos());
+      }
+      shard.waiting = false;
+    }
+  }
+
+  /**
+   * 대기열에서 최대 batchSize개를 꺼내 반영하고, 합쳐 둔 키워드 검색 횟수도 반영한다.
+   *
+   * @param shard
+   * @return 반영한 키워드 수
+   */
+  private int drain(Shard shard) {
+    var drained = shard.buffer.drain(keyword -> increment(keyword, 1), batchSize);
+    for (var keyword : shard.overflow.keySet()) {
+      var hits = shard.overflow.remove(keyword);
+      if (hits != null) {
+        increment(keyword, hits.sum());
+        drained++;
+      }
+    }
+    return drained;
+  }
+
+  private void increment(String keyword, long hits) {
+    try {
+      keywordHitsService.incrementKeywordHits(keyword, hits);
+    } catch (RuntimeException e) {
+      log.warn("keyword hit consume fail: keyword - {}, e - {}", keyword, e.getMessage());
+    }
+  }
+
+  /**
+   * 소비 스레드를 멈추고 남은 키워드 검색 횟수를 모두 반영한다.
+   */
+  @PreDestroy
+  public void shutdown() {
+    running = false;
+    for (Shard shard : shards) {
+      LockSupport.unpark(shard.consumer);
+      try {
+        shard.consumer.join(TimeUnit.SECONDS.toMillis(1));
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      if (shard.consumer.isAlive()) {
+        log.warn("keyword hit consumer not terminated: thread - {}", shard.consumer.getName());
+        continue;
+      }
+
+      var drained = drain(shard);
+      while (drained > 0) {
+        drained = drain(shard);
+      }
+    }
+  }
+
+  public int getDepth() {
+    return shards.stream().mapToInt(shard -> shard.buffer.size()).sum();
+  }
+
+  private static final class Shard {
+
+    private final MpscRingBuffer<String> buffer;
+    private final Map<String, LongAdder> overflow = new ConcurrentHashMap<>();
+
+    private Thread consumer;
+    private volatile boolean waiting;
+
+    private Shard(MpscRingBuffer<String> buffer) {
+      this.buffer = buffer;
+    }
+
+    private void wakeUp() {
+      if (waiting) {
+        LockSupport.unpark(consumer);
+      }
+    }
+  }
+}
@@ -2,25 +2,39 @@
 package com.example.placesearchtoy.application.service;
 
 import com.example.placesearchtoy.application.dto.KeywordDto;
-import com.example.placesearchtoy.application.model.KeywordHitEvent;
+import com.example.placesearchtoy.application.model.type.KeywordHitsBackend;
+import com.example.placesearchtoy.application.support.KeywordHitCounter;
+import com.example.placesearchtoy.application.support.MinuteHeavyHitters;
+import com.example.placesearchtoy.application.support.SlidingWindowCounter;
 import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.logging.log4j.util.Strings;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.data.redis.core.ValueOperations;
 import org.springframework.data.redis.core.ZSetOperations;
 import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 @Slf4j
 @Service
@@ -29,6 +43,8 @@ public class KeywordHitsService {
 
   private final RedisTemplate<String, String> redisTemplate;
 
+  private final ReactiveRedisTemplate<String, String> reactiveRedisTemplate;
+
   private ZSetOperations<String, String> zSetOperations;
   private ValueOperations<String, String> valueOperations;
 
@@ -41,30 +57,172 @@ public class KeywordHitsService {
   @Value("${keyword.redis-key-prefix.view}")
   private String viewKey;
 
+  @Value("${keyword.redis-key-prefix.sketch-ranking}")
+  private String sketchKeyPrefix;
+
+  @Value("${keyword.hits.batching.enabled}")
+  private boolean batching;
+
+  @Value("${keyword.hits.backend}")
+  private KeywordHitsBackend backend;
+
+  @Value("${keyword.hits.sketch.epsilon}")
+  private double sketchEpsilon;
+
+  @Value("${keyword.hits.sketch.delta}")
+  private double sketchDelta;
+
+  @Value("${keyword.hits.sketch.top-k}")
+  private int sketchTopK;
+
+  @Value("${keyword.hits.sliding-window.bucket-width}")
+  private Duration slidingWindowBucketWidth;
+
+  @Value("${keyword.hits.sliding-window.length}")
+  private Duration slidingWindowLength;
+
+  private final KeywordHitCounter keywordHitCounter = new KeywordHitCounter();
+
+  private MinuteHeavyHitters minuteHeavyHitters;
+
+  private SlidingWindowCounter slidingWindowCounter;
+
   private final DateTimeFormatter suffixFormatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
   private final Duration defaultTTL = Duration.ofMinutes(15);
+  private final int windowMinutes = 10;
 
   /**
    * 키워드 검색 횟수 증가
+   * 모아서 저장하는 경우 메모리의 분 단위 카운터만 증가시키고, 레디스에는 flushKeywordHits에서 한 번에 저장한다.
+   * 근사 요약을 사용하는 경우 메모리의 분 단위 요약에만 더하고, 분이 지나면 flushKeywordHits에서 요약만 저장한다.
+   * 슬라이딩 윈도우를 사용하는 경우 메모리의 윈도우에만 더한다.
    *
-   * @param keywordHitEvent
+   * @param keyword
+   * @param hits
    */
-  @Async
-  @EventListener
-  public void incrementKeywordHits(KeywordHitEvent keywordHitEvent) {
+  public void incrementKeywordHits(String keyword, long hits) {
+    if (Strings.isBlank(keyword) || hits <= 0) {
+      return;
+    }
+
+    if (backend == KeywordHitsBackend.SKETCH) {
+      minuteHeavyHitters.add(currentMinute(), keyword, hits);
+      return;
+    }
+    if (backend == KeywordHitsBackend.SLIDING_WINDOW) {
+      slidingWindowCounter.add(System.currentTimeMillis(), keyword, hits);
+      return;
+    }
+
+    if (batching) {
+      keywordHitCounter.add(currentMinute(), keyword, hits);
+      return;
+    }
+
     var suffix = LocalDateTime.now().format(suffixFormatter);
-    var keyword = keywordHitEvent.getKeyword();
-    if (Strings.isBlank(keyword)) {
+    incrementScoreAtKey(accumulateKeyPrefix + suffix, keyword, hits);
+    incrementScoreAtKey(minuteKeyPrefix + suffix, keyword, hits);
+  }
+
+  /**
+   * 모아 둔 키워드 검색 횟수 저장
+   * 분 단위 키와 누적 키마다 키워드별 ZINCRBY와 EXPIRE 한 번을 하나의 파이프라인으로 보낸다.
+   * 근사 요약을 사용하는 경우 지난 분의 요약을 분 단위 요약 키에 더하므로, 여러 서버의 요약이 레디스에서 합쳐진다.
+   */
+  @Scheduled(fixedDelayString = "${keyword.hits.flush-interval-millis}")
+  public void flushKeywordHits() {
+    flushKeywordHits(currentMinute());
+  }
+
+  /**
+   * 종료 시 모아 둔 키워드 검색 횟수 저장
+   * 진행 중인 분의 요약도 저장하므로 잃어버리는 검색 횟수는 마지막 저장 이후의 것뿐이다.
+   */
+  @PreDestroy
+  public void flushKeywordHitsOnShutdown() {
+    flushKeywordHits(currentMinute() + 1);
+  }
+
+  private synchronized void flushKeywordHits(long untilMinute) {
+    Map<Long, Map<String, Long>> hits;
+    List<String> keyPrefixes;
+    if (backend == KeywordHitsBackend.SKETCH) {
+      hits = minuteHeavyHitters.drain(untilMinute);
+      keyPrefixes = List.of(sketchKeyPrefix);
+    } else if (backend == KeywordHitsBackend.REDIS) {
+      hits = keywordHitCounter.drain(untilMinute);
+      keyPrefixes = List.of(accumulateKeyPrefix, minuteKeyPrefix);
+    } else {
       return;
     }
 
-    incrementScoreAtKey(accumulateKeyPrefix + suffix, keyword);
-    incrementScoreAtKey(minuteKeyPrefix + suffix, keyword);
+    if (!hits.isEmpty() && !incrementScoresInPipeline(hits, keyPrefixes)) {
+      restoreKeywordHits(hits);
+    }
   }
 
-  private void incrementScoreAtKey(String key, String keyword) {
+  /**
+   * 저장하지 못한 키워드 검색 횟수를 다시 메모리에 더해 다음 저장에 보낸다.
+   * 레디스가 오래 실패해도 메모리가 계속 늘지 않도록, 순위 집계 범위(10분)를 벗어난 분은 버린다.
+   *
+   * @param hits 분별 키워드 검색 횟수
+   */
+  private void restoreKeywordHits(Map<Long, Map<String, Long>> hits) {
+    var oldestMinute = currentMinute() - windowMinutes + 1;
+    hits.forEach((minute, keywords) -> {
+      if (minute < oldestMinute) {
+        log.warn("drop keyword hits out of window : minute - {}, keywords - {}", minute, keywords.size());
+        return;
+      }
+      keywords.forEach((keyword, count) -> {
+        if (backend == KeywordHitsBackend.SKETCH) {
+          minuteHeavyHitters.add(minute, keyword, count);
+        } else {
+          keywordHitCounter.add(minute, keyword, count);
+        }
+      });
+    });
+  }
+
+  private boolean incrementScoresInPipeline(Map<Long, Map<String, Long>> hits, List<String> keyPrefixes) {
+
     try {
-      zSetOperations.incrementScore(key, keyword, 1);
+      redisTemplate.executePipelined(new SessionCallback<>() {
+        @Override
+        @SuppressWarnings("unchecked")
+        public <K, V> Object execute(RedisOperations<K, V> operations) {
+          var pipeline = (RedisOperations<String, String>) operations;
+          hits.forEach((minute, keywords) -> {
+            var suffix = formatMinute(minute);
+            keyPrefixes.forEach(keyPrefix -> incrementScoresAtKey(pipeline, keyPrefix + suffix, keywords));
+          });
+          return null;
+        }
+      });
+      return true;
+    } catch (RuntimeException e) {
+      log.error("redis flush keyword hits fail : minutes - {}, e - {}", hits.keySet(), e.getMessage());
+      return false;
+    }
+  }
+
+  private void incrementScoresAtKey(RedisOperations<String, String> pipeline, String key, Map<String, Long> keywords) {
+    var pipelineZSetOperations = pipeline.opsForZSet();
+    keywords.forEach((keyword, hits) -> pipelineZSetOperations.incrementScore(key, keyword, hits));
+    pipeline.expire(key, defaultTTL);
+  }
+
+  private long currentMinute() {
+    return TimeUnit.MILLISECONDS.toMinutes(System.currentTimeMillis());
+  }
+
+  private String formatMinute(long minute) {
+    return LocalDateTime.ofInstant(Instant.ofEpochSecond(TimeUnit.MINUTES.toSeconds(minute)), ZoneId.systemDefault()).format(suffixFormatter);
+  }
+
+  private void incrementScoreAtKey(String key, String keyword, long hits) {
+    try {
+      zSetOperations.incrementScore(key, keyword, hits);
       redisTemplate.expire(key, defaultTTL);
     } catch (RuntimeException e) {
       log.error("redis increment score fail : key - {}, keyword - {}, e - {}", key, keyword, e.getMessage());
@@ -77,17 +235,124 @@ public class KeywordHitsService {
    * @return
    */
   public List<KeywordDto> searchTop10KeywordHits() {
+    return searchTopKeywordHits(10);
+  }
+
+  /**
+   * 많이 검색된 상위 키워드 목록 조회
+   *
+   * @param size
+   * @return
+   */
+  public List<KeywordDto> searchTopKeywordHits(int size) {
+    if (backend == KeywordHitsBackend.SKETCH) {
+      return searchTopSketchHits(size);
+    }
+    if (backend == KeywordHitsBackend.SLIDING_WINDOW) {
+      return searchTopSlidingWindowHits(size);
+    }
+
     try {
-      var keywords = Objects.requireNonNullElse(zSetOperations.reverseRangeWithScores(getCurrentViewKey(), 0, 9), Set.<TypedTuple<String>>of());
+      var keywords = Objects.requireNonNullElse(zSetOperations.reverseRangeWithScores(getCurrentViewKey(), 0, size - 1), Set.<TypedTuple<String>>of());
       return keywords.stream()
                      .map(keyword -> KeywordDto.of(keyword.getValue(), Objects.requireNonNullElse(keyword.getScore(), 0).longValue()))
                      .toList();
     } catch (RuntimeException e) {
-      log.info("search top 10 keyword error, {}", e.getMessage());
+      log.info("search top {} keyword error, {}", size, e.getMessage());
       return List.of();
     }
   }
 
+  /**
+   * 많이 검색된 상위 키워드 목록 조회 - 논블로킹
+   *
+   * @param size
+   * @return
+   */
+  public Mono<List<KeywordDto>> searchTopKeywordHitsAsync(int size) {
+    if (backend == KeywordHitsBackend.SKETCH) {
+      return Mono.fromCallable(() -> searchTopSketchHits(size)).subscribeOn(Schedulers.boundedElastic());
+    }
+    if (backend == KeywordHitsBackend.SLIDING_WINDOW) {
+      return Mono.fromSupplier(() -> searchTopSlidingWindowHits(size));
+    }
+
+    return getCurrentViewKeyAsync()
+        .flatMapMany(key -> reactiveRedisTemplate.opsForZSet().reverseRangeWithScores(key, Range.closed(0L, size - 1L)))
+        .map(keyword -> KeywordDto.of(keyword.getValue(), Objects.requireNonNullElse(keyword.getScore(), 0).longValue()))
+        .collectList()
+        .onErrorResume(e -> {
+          log.info("search top {} keyword error, {}", size, e.getMessage());
+          return Mono.just(List.of());
+        });
+  }
+
+  /**
+   * 근사 요약으로 많이 검색된 상위 키워드 목록 조회
+   * 최근 10분 중 지난 분들은 레디스에 합쳐진 모든 서버의 요약을 한 번의 파이프라인으로 읽고, 진행 중인 분은 이 서버의 요약을 더한다.
+   *
+   * @param size
+   * @return
+   */
+  private List<KeywordDto> searchTopSketchHits(int size) {
+    var currentMinute = currentMinute();
+    Map<String, Long> hits = new HashMap<>(minuteHeavyHitters.top(currentMinute));
+    try {
+      var summaries = redisTemplate.executePipelined(new SessionCallback<>() {
+        @Override
+        @SuppressWarnings("unchecked")
+        public <K, V> Object execute(RedisOperations<K, V> operations) {
+          var pipelineZSetOperations = ((RedisOperations<String, String>) operations).opsForZSet();
+          for (long minute = currentMinute - windowMinutes + 1; minute < currentMinute; minute++) {
+            pipelineZSetOperations.rangeWithScores(sketchKeyPrefix + formatMinute(minute), 0, -1);
+          }
+          return null;
+        }
+      });
+
+      for (Object summary : summaries) {
+        if (summary instanceof Set<?> tuples) {
+          for (Object tuple : tuples) {
+            var keyword = (TypedTuple<?>) tuple;
+            hits.merge(String.valueOf(keyword.getValue()), Objects.requireNonNullElse(keyword.getScore(), 0D).longValue(), Long::sum);
+          }
+        }
+      }
+    } catch (RuntimeException e) {
+      log.info("search top {} sketch keyword error, {}", size, e.getMessage());
+    }
+
+    return hits.entrySet()
+               .stream()
+               .sorted(Map.Entry.<String, Long>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+               .limit(size)
+               .map(entry -> KeywordDto.of(entry.getKey(), entry.getValue()))
+               .toList();
+  }
+
+  /**
+   * 슬라이딩 윈도우로 많이 검색된 상위 키워드 목록 조회
+   * 순위를 계속 유지하므로 레디스 조회 없이 상위 size개만 읽는다.
+   *
+   * @param size
+   * @return
+   */
+  private List<KeywordDto> searchTopSlidingWindowHits(int size) {
+    return slidingWindowCounter.top(System.currentTimeMillis(), size)
+                               .entrySet()
+                               .stream()
+                               .map(entry -> KeywordDto.of(entry.getKey(), entry.getValue()))
+                               .toList();
+  }
+
+  private Mono<String> getCurrentViewKeyAsync() {
+    var accumulateKey = accumulateKeyPrefix + LocalDateTime.now().format(suffixFormatter);
+    return reactiveRedisTemplate.opsForValue()
+                                .get(viewKey)
+                                .defaultIfEmpty(accumulateKey)
+                                .onErrorReturn(accumulateKey);
+  }
+
   private String getCurrentViewKey() {
     var accumulateKey = accumulateKeyPrefix + LocalDateTime.now().format(suffixFormatter);
     try {
@@ -102,5 +367,11 @@ public class KeywordHitsService {
   public void post() {
     zSetOperations = redisTemplate.opsForZSet();
     valueOperations = redisTemplate.opsForValue();
+    if (backend == KeywordHitsBackend.SKETCH) {
+      minuteHeavyHitters = new MinuteHeavyHitters(sketchEpsilon, sketchDelta, sketchTopK);
+    }
+    if (backend == KeywordHitsBackend.SLIDING_WINDOW) {
+      slidingWindowCounter = new SlidingWindowCounter(slidingWindowBucketWidth, slidingWindowLength);
+    }
   }
 }
\ No newline at end of file
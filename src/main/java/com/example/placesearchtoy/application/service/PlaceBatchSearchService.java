@@ -0,0 +1,56 @@
+package com.example.placesearchtoy.application.service;
+
+import com.example.placesearchtoy.application.dto.PlaceDto;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PlaceBatchSearchService {
+
+  private final SearchQueryService searchQueryService;
+
+  @Qualifier("batchSearchExecutor")
+  private final Executor batchSearchExecutor;
+
+  /**
+   * 여러 검색어의 장소 목록 조회
+   * 필터링한 검색어가 같으면 한 번만 조회하고, 서로 다른 검색어는 일괄 조회 실행기에서 동시에 조회한다.
+   * 검색어마다 단건 조회와 같은 캐시, 검색 API 호출, 키워드 검색 횟수 증가를 거친다.
+   * 조회에 실패한 검색어는 빈 목록을 반환한다.
+   *
+   * @param queries
+   * @return 요청한 검색어 순서대로 검색어별 장소 목록
+   */
+  public Map<String, List<PlaceDto>> searchPlaces(List<String> queries) {
+    Map<String, CompletableFuture<List<PlaceDto>>> searches = new HashMap<>();
+    Map<String, String> filteredQueries = new LinkedHashMap<>();
+    for (String query : queries) {
+      var filteredQuery = searchQueryService.filteredQuery(query);
+      filteredQueries.put(query, filteredQuery);
+      searches.computeIfAbsent(filteredQuery, key -> CompletableFuture.supplyAsync(() -> searchPlaces(key), batchSearchExecutor));
+    }
+
+    Map<String, List<PlaceDto>> results = new LinkedHashMap<>();
+    filteredQueries.forEach((query, filteredQuery) -> results.put(query, searches.get(filteredQuery).join()));
+    return results;
+  }
+
+  private List<PlaceDto> searchPlaces(String query) {
+    try {
+      return searchQueryService.searchPlaces(query);
+    } catch (RuntimeException e) {
+      log.warn("batch search places fail: query - {}, e - {}", query, e.getMessage());
+      return List.of();
+    }
+  }
+}
@@ -1,32 +1,91 @@
 
 package com.example.placesearchtoy.application.service;
 
-import com.example.placesearchtoy.adapter.service.KakaoService;
-import com.example.placesearchtoy.adapter.service.NaverService;
 import com.example.placesearchtoy.application.annotation.KeywordHit;
+import com.example.placesearchtoy.application.cache.PlaceCache;
 import com.example.placesearchtoy.application.dto.PlaceDto;
-import com.example.placesearchtoy.application.mapper.PlaceMapper;
-import com.example.placesearchtoy.application.model.type.ProviderType;
-import java.util.Collection;
-import java.util.Comparator;
-import java.util.HashMap;
+import com.example.placesearchtoy.application.model.PlaceSearchResult;
+import com.example.placesearchtoy.application.model.PlaceSearchUpdate;
+import com.example.placesearchtoy.application.model.ProviderPlaces;
+import com.example.placesearchtoy.application.provider.PlaceProvider;
+import com.example.placesearchtoy.application.support.PlaceMerger;
+import com.example.placesearchtoy.application.support.SingleFlight;
+import com.example.placesearchtoy.application.support.SingleFlightTimeoutException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
-import java.util.function.Consumer;
-import java.util.stream.Stream;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import javax.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class SearchQueryService {
 
-  private final KakaoService kakaoService;
-  private final NaverService naverService;
+  private final List<PlaceProvider> placeProviders;
 
-  private final PlaceMapper mapper;
+  private final PlaceCache placeCache;
+
+  private final MeterRegistry meterRegistry;
+
+  @Qualifier("providerExecutor")
+  private final Executor providerExecutor;
+
+  @Value("${search.fan-out.concurrent}")
+  private boolean concurrentFanOut;
+
+  @Value("${search.fan-out.non-blocking}")
+  private boolean nonBlockingFanOut;
+
+  @Value("${search.fan-out.deadline-millis}")
+  private long fanOutDeadlineMillis;
+
+  @Value("${search.dedup.radius-meters}")
+  private double dedupRadiusMeters;
+
+  @Value("${search.dedup.name-similarity}")
+  private double dedupNameSimilarity;
+
+  @Value("${search.cache.enabled}")
+  private boolean cacheEnabled;
+
+  @Value("${search.coalescing.enabled}")
+  private boolean coalescingEnabled;
+
+  @Value("${search.coalescing.follower-timeout}")
+  private Duration coalescingFollowerTimeout;
+
+  private SingleFlight<String, PlaceSearchResult> inFlightSearches;
+
+  private final Map<String, Mono<PlaceSearchResult>> inFlightAsyncSearches = new ConcurrentHashMap<>();
+
+  private final LongAdder asyncCollapsedCount = new LongAdder();
+
+  private final Map<String, Timer> fetchTimers = new ConcurrentHashMap<>();
 
   private final int maxSize = 10;
 
@@ -48,61 +107,343 @@ public class SearchQueryService {
    */
   @KeywordHit
   public List<PlaceDto> searchPlaces(String query) {
-    List<PlaceDto> naverPlaces = getNaverPlaces(query);
-    List<PlaceDto> kakaoPlaces = getKakaoPlaces(query, Math.max(maxSize - naverPlaces.size(), 0));
+    return cacheEnabled ? placeCache.get(query, this::loadPlaces) : loadPlaces(query).getPlaces();
+  }
 
-    List<PlaceDto> places = Stream.of(naverPlaces, kakaoPlaces).flatMap(Collection::stream).toList();
+  /**
+   * 검색어와 관련된 장소 목록 조회 - 논블로킹
+   * 캐시와 검색 API를 모두 논블로킹으로 호출한다.
+   *
+   * @param query
+   * @return
+   */
+  @KeywordHit
+  public Mono<List<PlaceDto>> searchPlacesAsync(String query) {
+    return cacheEnabled ? placeCache.getAsync(query, this::loadPlacesAsync) : loadPlacesAsync(query).map(PlaceSearchResult::getPlaces);
+  }
 
-    updateKeywordMatchCount(places);
+  /**
+   * 검색어와 관련된 장소 목록 조회 - 검색 API 응답 순서대로 전달
+   * 가장 빠른 검색 API가 응답하면 바로 첫 목록을 전달하고, 다른 API가 응답할 때마다 다시 병합한 목록을 전달한 뒤 최종 목록을 전달한다.
+   * 캐시에 목록이 있으면 검색 API를 호출하지 않고 최종 목록만 전달한다.
+   *
+   * @param query
+   * @return
+   */
+  @KeywordHit
+  public Flux<PlaceSearchUpdate> streamPlaces(String query) {
+    return Flux.defer(() -> {
+      Sinks.Many<PlaceSearchUpdate> partials = Sinks.many().unicast().onBackpressureBuffer();
+      Function<String, Mono<PlaceSearchResult>> loader = key -> fetchPlacesProgressively(key, partials);
 
-    return getSortedPlaces(places);
+      var places = cacheEnabled ? placeCache.getAsync(query, loader) : loader.apply(query).map(PlaceSearchResult::getPlaces);
+      var completed = places.map(result -> PlaceSearchUpdate.completed(result, placeProviders.size()));
+      return Flux.merge(partials.asFlux(), completed).takeUntil(PlaceSearchUpdate::isCompleted);
+    });
   }
 
-  private List<PlaceDto> getNaverPlaces(String query) {
-    try {
-      return mapper.itemsToPlaceDtos(naverService.searchLocalItems(query), ProviderType.NAVER);
-    } catch (RuntimeException e) {
-      return List.of();
+  /**
+   * 검색어와 관련된 장소 목록을 미리 조회하여 캐시에 저장
+   * 사용자 검색이 아니므로 키워드 검색 횟수는 증가시키지 않는다.
+   *
+   * @param query
+   */
+  public void warmPlaces(String query) {
+    if (cacheEnabled) {
+      placeCache.warm(query, this::loadPlaces);
     }
   }
 
-  private List<PlaceDto> getKakaoPlaces(String query, int size) {
+  /**
+   * 동일한 검색어로 진행 중인 조회가 있으면 새로 호출하지 않고 그 결과를 함께 사용
+   *
+   * @param query
+   * @return
+   */
+  private PlaceSearchResult loadPlaces(String query) {
+    if (!coalescingEnabled) {
+      return fetchPlaces(query);
+    }
+
     try {
-      return mapper.documentsToPlaceDtos(kakaoService.searchKeywordDocuments(query, size), ProviderType.KAKAO);
-    } catch (RuntimeException e) {
-      return List.of();
+      return inFlightSearches.execute(query, this::fetchPlaces);
+    } catch (SingleFlightTimeoutException e) {
+      log.warn("wait in-flight search fail: query - {}, e - {}", query, e.getMessage());
+      return PlaceSearchResult.of(List.of(), false);
     }
   }
 
-  private void updateKeywordMatchCount(List<PlaceDto> places) {
-    Map<String, Integer> matchCounts = new HashMap<>();
-    places.forEach(place -> {
-      Consumer<PlaceDto> consumer = placeDto -> {
-        matchCounts.putIfAbsent(placeDto.getNameWithAddress(), 0);
-        matchCounts.computeIfPresent(placeDto.getNameWithAddress(), (key, value) -> value + 1);
-      };
-      handleExceptionWithWarnLogging(consumer, place, "create keyword match count map fail");
+  /**
+   * 동일한 검색어로 진행 중인 조회가 있으면 새로 호출하지 않고 그 결과를 함께 사용 - 논블로킹
+   * 진행 중인 조회를 함께 사용한 횟수는 블로킹 조회와 함께 search.places.coalesced 지표로 기록한다.
+   *
+   * @param query
+   * @return
+   */
+  private Mono<PlaceSearchResult> loadPlacesAsync(String query) {
+    if (!coalescingEnabled) {
+      return fetchPlacesAsync(query);
+    }
+
+    var created = new AtomicBoolean();
+    var search = inFlightAsyncSearches.computeIfAbsent(query, key -> {
+      created.set(true);
+      return fetchPlacesAsync(key).doFinally(signal -> inFlightAsyncSearches.remove(key)).cache();
     });
+    if (!created.get()) {
+      asyncCollapsedCount.increment();
+    }
+    return search;
+  }
+
+  private PlaceSearchResult fetchPlaces(String query) {
+    return mergePlaces(concurrentFanOut ? getPlacesConcurrently(query) : getPlacesSequentially(query));
+  }
+
+  /**
+   * 모든 검색 API 동시 호출 - 논블로킹
+   * 마감 시간까지 응답하지 않은 API의 결과는 제외한다.
+   *
+   * @param query
+   * @return
+   */
+  private Mono<PlaceSearchResult> fetchPlacesAsync(String query) {
+    var deadline = Duration.ofMillis(fanOutDeadlineMillis);
+    return Flux.fromIterable(placeProviders)
+               .flatMapSequential(provider -> {
+                 var fetch = new ProviderFetch(provider);
+                 return getPlacesAsync(fetch, query, pageSize(provider, maxSize))
+                     .timeout(deadline, deadlineExceeded(fetch, query));
+               })
+               .collectList()
+               .map(this::mergePlaces);
+  }
+
+  /**
+   * 모든 검색 API 동시 호출 - 응답할 때마다 중간 결과 전달
+   * 중간 결과도 검색 API 순서대로 병합하므로 모든 API가 응답한 뒤의 결과는 fetchPlacesAsync와 같다.
+   *
+   * @param query
+   * @param partials
+   * @return
+   */
+  private Mono<PlaceSearchResult> fetchPlacesProgressively(String query, Sinks.Many<PlaceSearchUpdate> partials) {
+    var deadline = Duration.ofMillis(fanOutDeadlineMillis);
+    var totalProviders = placeProviders.size();
+    var arrived = new ProviderPlaces[totalProviders];
+    return Flux.range(0, totalProviders)
+               .flatMap(index -> {
+                 var provider = placeProviders.get(index);
+                 var fetch = new ProviderFetch(provider);
+                 return getPlacesAsync(fetch, query, pageSize(provider, maxSize))
+                     .timeout(deadline, deadlineExceeded(fetch, query))
+                     .doOnNext(places -> arrived[index] = places);
+               })
+               .index()
+               .map(arrival -> {
+                 var responded = arrival.getT1().intValue() + 1;
+                 var result = mergePlaces(Arrays.stream(arrived).filter(Objects::nonNull).toList());
+                 if (responded < totalProviders) {
+                   partials.tryEmitNext(PlaceSearchUpdate.partial(result.getPlaces(), responded, totalProviders));
+                 }
+                 return result;
+               })
+               .last(PlaceSearchResult.of(List.of(), true));
+  }
 
-    places.forEach(place -> {
-      Consumer<PlaceDto> consumer = placeDto -> placeDto.updateMatchCount(matchCounts.get(placeDto.getNameWithAddress()));
-      handleExceptionWithWarnLogging(consumer, place, "update keyword match count fail");
+  private Mono<ProviderPlaces> deadlineExceeded(ProviderFetch fetch, String query) {
+    return Mono.fromSupplier(() -> {
+      var provider = fetch.provider;
+      log.warn("search deadline exceeded: provider - {}, query - {}", provider.getId(), query);
+      fetch.record("timeout", TimeUnit.MILLISECONDS.toNanos(fanOutDeadlineMillis));
+      return ProviderPlaces.failed(provider.getId(), provider.getPriority());
     });
   }
 
-  private List<PlaceDto> getSortedPlaces(List<PlaceDto> places) {
-    return places.stream()
-                 .sorted(Comparator.comparing(place -> place.getProviderType().getPriority()))
-                 .sorted(Comparator.comparing(PlaceDto::getMatchCount).reversed())
-                 .distinct()
-                 .toList();
+  private PlaceSearchResult mergePlaces(List<ProviderPlaces> providerPlaces) {
+    var complete = providerPlaces.stream().noneMatch(ProviderPlaces::isFailed);
+    return PlaceSearchResult.of(PlaceMerger.merge(providerPlaces, maxSize, dedupRadiusMeters, dedupNameSimilarity), complete);
+  }
+
+  /**
+   * 검색 API 순차 호출
+   * 앞서 호출한 API에서 조회한 개수만큼 뒤에 호출할 API의 조회 개수를 줄인다.
+   *
+   * @param query
+   * @return
+   */
+  private List<ProviderPlaces> getPlacesSequentially(String query) {
+    List<ProviderPlaces> providerPlaces = new ArrayList<>(placeProviders.size());
+    var remaining = maxSize;
+    for (PlaceProvider provider : placeProviders) {
+      var places = getPlaces(new ProviderFetch(provider), query, pageSize(provider, Math.max(remaining, 0)));
+      remaining -= places.getPlaces().size();
+      providerPlaces.add(places);
+    }
+    return providerPlaces;
+  }
+
+  /**
+   * 모든 검색 API 동시 호출
+   * 각 API는 다른 API 결과 개수와 무관하게 최대 개수만큼 조회하고, 하나의 마감 시간까지 응답하지 않은 API의 결과는 제외한다.
+   * 논블로킹 호출을 사용하면 API 응답을 기다리는 실행기 스레드 없이 호출한다.
+   *
+   * @param query
+   * @return
+   */
+  private List<ProviderPlaces> getPlacesConcurrently(String query) {
+    var deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(fanOutDeadlineMillis);
+
+    List<ProviderFetch> fetches = new ArrayList<>(placeProviders.size());
+    List<CompletableFuture<ProviderPlaces>> futures = new ArrayList<>(placeProviders.size());
+    for (PlaceProvider provider : placeProviders) {
+      var fetch = new ProviderFetch(provider);
+      var size = pageSize(provider, maxSize);
+      fetches.add(fetch);
+      futures.add(nonBlockingFanOut ? getPlacesAsync(fetch, query, size).toFuture() : submitPlaces(fetch, query, size));
+    }
+
+    List<ProviderPlaces> providerPlaces = new ArrayList<>(futures.size());
+    for (int i = 0; i < futures.size(); i++) {
+      providerPlaces.add(awaitPlaces(futures.get(i), deadline, fetches.get(i), query));
+    }
+    return providerPlaces;
+  }
+
+  /**
+   * 검색 API 호출을 실행기에 제출
+   * 실행기가 가득 차 거절되면 요청 스레드에서 호출하지 않고 실패로 처리하여, 부하가 몰릴 때도 마감 시간을 지킨다.
+   *
+   * @param fetch
+   * @param query
+   * @param size
+   * @return
+   */
+  private CompletableFuture<ProviderPlaces> submitPlaces(ProviderFetch fetch, String query, int size) {
+    try {
+      return CompletableFuture.supplyAsync(() -> getPlaces(fetch, query, size), providerExecutor);
+    } catch (RejectedExecutionException e) {
+      var provider = fetch.provider;
+      log.warn("search rejected: provider - {}, query - {}, e - {}", provider.getId(), query, e.getMessage());
+      fetch.record("rejected", 0);
+      return CompletableFuture.completedFuture(ProviderPlaces.failed(provider.getId(), provider.getPriority()));
+    }
+  }
+
+  private ProviderPlaces awaitPlaces(CompletableFuture<ProviderPlaces> future, long deadline, ProviderFetch fetch, String query) {
+    var provider = fetch.provider;
+    try {
+      return future.get(Math.max(deadline - System.nanoTime(), 0), TimeUnit.NANOSECONDS);
+    } catch (TimeoutException e) {
+      future.cancel(true);
+      log.warn("search deadline exceeded: provider - {}, query - {}", provider.getId(), query);
+      fetch.record("timeout", TimeUnit.MILLISECONDS.toNanos(fanOutDeadlineMillis));
+      return ProviderPlaces.failed(provider.getId(), provider.getPriority());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return ProviderPlaces.failed(provider.getId(), provider.getPriority());
+    } catch (ExecutionException e) {
+      log.warn("search fail: provider - {}, query - {}, e - {}", provider.getId(), query, e.getMessage());
+      return ProviderPlaces.failed(provider.getId(), provider.getPriority());
+    }
   }
 
-  private void handleExceptionWithWarnLogging(Consumer<PlaceDto> consumer, PlaceDto placeDto, String errorMessage) {
+  private ProviderPlaces getPlaces(ProviderFetch fetch, String query, int size) {
+    var provider = fetch.provider;
+    var start = System.nanoTime();
     try {
-      consumer.accept(placeDto);
-    } catch (Exception e) {
-      log.warn(errorMessage + ": place - {}, e - {}", placeDto.toString(), e.getMessage());
+      var places = provider.fetch(query, size);
+      fetch.record("success", System.nanoTime() - start);
+      return ProviderPlaces.of(provider.getId(), provider.getPriority(), places);
+    } catch (RuntimeException e) {
+      fetch.record("failure", System.nanoTime() - start);
+      log.warn("search fail: provider - {}, query - {}, e - {}", provider.getId(), query, e.getMessage());
+      return ProviderPlaces.failed(provider.getId(), provider.getPriority());
     }
   }
+
+  private Mono<ProviderPlaces> getPlacesAsync(ProviderFetch fetch, String query, int size) {
+    var provider = fetch.provider;
+    return Mono.defer(() -> {
+      var start = System.nanoTime();
+      return provider.fetchAsync(query, size)
+                     .map(places -> {
+                       fetch.record("success", System.nanoTime() - start);
+                       return ProviderPlaces.of(provider.getId(), provider.getPriority(), places);
+                     })
+                     .onErrorResume(e -> {
+                       fetch.record("failure", System.nanoTime() - start);
+                       log.warn("search fail: provider - {}, query - {}, e - {}", provider.getId(), query, e.getMessage());
+                       return Mono.just(ProviderPlaces.failed(provider.getId(), provider.getPriority()));
+                     });
+    });
+  }
+
+  private int pageSize(PlaceProvider provider, int size) {
+    return Math.min(size, provider.getMaxPageSize());
+  }
+
+  /**
+   * 검색 API별 호출 시간과 결과(success, failure, timeout, rejected) 기록
+   *
+   * @param provider
+   * @param result
+   * @param nanos
+   */
+  private void recordFetch(PlaceProvider provider, String result, long nanos) {
+    fetchTimers.computeIfAbsent(provider.getId() + ":" + result, key -> Timer.builder("search.provider.fetch")
+                                                                             .description("place provider fetch latency by result")
+                                                                             .tags("provider", provider.getId(), "result", result)
+                                                                             .register(meterRegistry))
+               .record(nanos, TimeUnit.NANOSECONDS);
+  }
+
+  /**
+   * 검색 API 호출 한 번
+   * 마감 시간이 지나 timeout으로 기록한 뒤에도 호출은 실행기에서 끝까지 실행될 수 있으므로, 호출마다 결과를 한 번만 기록한다.
+   */
+  private final class ProviderFetch {
+
+    private final PlaceProvider provider;
+    private final AtomicBoolean recorded = new AtomicBoolean();
+
+    private ProviderFetch(PlaceProvider provider) {
+      this.provider = provider;
+    }
+
+    private void record(String result, long nanos) {
+      if (recorded.compareAndSet(false, true)) {
+        recordFetch(provider, result, nanos);
+      }
+    }
+  }
+
+  /**
+   * 장소 검색 시 호출하는 검색 API 개수
+   *
+   * @return
+   */
+  public int getProviderCount() {
+    return placeProviders.size();
+  }
+
+  /**
+   * 진행 중인 조회를 함께 사용한 횟수 - 블로킹, 논블로킹 조회 합계
+   *
+   * @return
+   */
+  private long getCollapsedCount() {
+    return inFlightSearches.getCollapsedCount() + asyncCollapsedCount.sum();
+  }
+
+  @PostConstruct
+  public void post() {
+    inFlightSearches = new SingleFlight<>(coalescingFollowerTimeout);
+    FunctionCounter.builder("search.places.coalesced", this, SearchQueryService::getCollapsedCount)
+                   .description("place searches that waited on an in-flight search of the same query")
+                   .register(meterRegistry);
+    Gauge.builder("search.places.in-flight", inFlightSearches, SingleFlight::getInFlightCount)
+         .description("distinct place searches currently calling providers")
+         .register(meterRegistry);
+  }
 }
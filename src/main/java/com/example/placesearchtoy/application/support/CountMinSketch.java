@@ -0,0 +1,102 @@
+package com.example.placesearchtoy.application.support;
+
+import java.util.Arrays;
+
+/**
+ * 키워드별 검색 횟수 근사치
+ * width x depth 크기의 카운터만 사용하므로 키워드 종류가 늘어나도 메모리가 늘지 않는다.
+ * 근사치는 실제 횟수보다 작지 않고, 1 - delta 확률로 실제 횟수 + epsilon x 전체 횟수를 넘지 않는다.
+ * 가장 작은 카운터만 올리는 보수적 갱신으로 오차를 줄인다.
+ *
+ * 동기화하지 않으므로 한 스레드에서만 사용하거나 호출하는 쪽에서 동기화해야 한다.
+ */
+public class CountMinSketch {
+
+  private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+  private static final long FNV_PRIME = 0x100000001b3L;
+
+  private final long[][] counters;
+  private final int width;
+
+  private long total;
+
+  /**
+   * @param epsilon 전체 횟수 대비 허용 오차(0~1)
+   * @param delta   오차를 넘을 확률(0~1)
+   */
+  public CountMinSketch(double epsilon, double delta) {
+    if (epsilon <= 0 || epsilon >= 1 || delta <= 0 || delta >= 1) {
+      throw new IllegalArgumentException("epsilon and delta must be between 0 and 1: epsilon - " + epsilon + ", delta - " + delta);
+    }
+
+    width = (int) Math.ceil(Math.E / epsilon);
+    counters = new long[(int) Math.ceil(Math.log(1 / delta))][width];
+  }
+
+  /**
+   * 횟수 더하기
+   *
+   * @param keyword
+   * @param hits
+   * @return 더한 뒤의 근사치
+   */
+  public long add(String keyword, long hits) {
+    var hash = hash(keyword);
+    var estimate = estimate(hash) + hits;
+    for (int row = 0; row < counters.length; row++) {
+      var column = column(hash, row);
+      counters[row][column] = Math.max(counters[row][column], estimate);
+    }
+    total += hits;
+    return estimate;
+  }
+
+  /**
+   * 횟수 근사치
+   *
+   * @param keyword
+   * @return
+   */
+  public long estimate(String keyword) {
+    return estimate(hash(keyword));
+  }
+
+  public long getTotal() {
+    return total;
+  }
+
+  public void clear() {
+    for (long[] row : counters) {
+      Arrays.fill(row, 0);
+    }
+    total = 0;
+  }
+
+  private long estimate(long hash) {
+    var estimate = Long.MAX_VALUE;
+    for (int row = 0; row < counters.length; row++) {
+      estimate = Math.min(estimate, counters[row][column(hash, row)]);
+    }
+    return estimate;
+  }
+
+  /**
+   * 행별 칸 위치
+   * 64비트 해시를 두 개의 32비트 해시로 나누어 h1 + row x h2로 행마다 다른 칸을 고른다.
+   */
+  private int column(long hash, int row) {
+    var combined = (int) hash + row * (int) (hash >>> 32);
+    return Math.floorMod(combined, width);
+  }
+
+  private static long hash(String keyword) {
+    var hash = FNV_OFFSET_BASIS;
+    for (int i = 0; i < keyword.length(); i++) {
+      hash = (hash ^ keyword.charAt(i)) * FNV_PRIME;
+    }
+    hash ^= hash >>> 33;
+    hash *= 0xff51afd7ed558ccdL;
+    hash ^= hash >>> 33;
+    return hash;
+  }
+}
@@ -0,0 +1,171 @@
+package com.example.placesearchtoy.application.support;
+
+import com.example.placesearchtoy.application.model.GeoPoint;
+
+/**
+ * 검색 API 좌표를 WGS84 경위도로 변환
+ * 카카오는 WGS84 경위도를, 네이버는 KATEC(TM128) 좌표 또는 WGS84 경위도에 10^7을 곱한 정수를 준다.
+ * KATEC은 Bessel 타원체의 횡메르카토르 역변환 후 3변수 데이텀 변환으로 WGS84로 옮긴다.
+ */
+public final class GeoCoordinates {
+
+  private static final double METERS_PER_DEGREE = 111_320;
+
+  private static final double BESSEL_A = 6377397.155;
+  private static final double BESSEL_F = 1 / 299.1528128;
+  private static final double BESSEL_E2 = 2 * BESSEL_F - BESSEL_F * BESSEL_F;
+  private static final double BESSEL_EP2 = BESSEL_E2 / (1 - BESSEL_E2);
+
+  private static final double WGS84_A = 6378137;
+  private static final double WGS84_F = 1 / 298.257223563;
+  private static final double WGS84_E2 = 2 * WGS84_F - WGS84_F * WGS84_F;
+
+  private static final double KATEC_SCALE = 0.9999;
+  private static final double KATEC_LATITUDE_ORIGIN = Math.toRadians(38);
+  private static final double KATEC_LONGITUDE_ORIGIN = Math.toRadians(128);
+  private static final double KATEC_FALSE_EASTING = 400_000;
+  private static final double KATEC_FALSE_NORTHING = 600_000;
+
+  private static final double TO_WGS84_DX = -146.43;
+  private static final double TO_WGS84_DY = 507.89;
+  private static final double TO_WGS84_DZ = 681.46;
+
+  private static final double NAVER_WGS84_SCALE = 10_000_000;
+
+  private GeoCoordinates() {
+  }
+
+  /**
+   * 카카오 좌표 변환
+   * 값이 없거나 숫자가 아니면 null을 반환한다.
+   *
+   * @param x 경도
+   * @param y 위도
+   * @return
+   */
+  public static GeoPoint fromKakao(String x, String y) {
+    var longitude = parse(x);
+    var latitude = parse(y);
+    if (Double.isNaN(longitude) || Double.isNaN(latitude)) {
+      return null;
+    }
+    return GeoPoint.of(latitude, longitude);
+  }
+
+  /**
+   * 네이버 좌표 변환
+   * 경도에 10^7을 곱한 값은 10^7(NAVER_WGS84_SCALE) 이상이고 KATEC x 좌표는 그보다 작으므로, 10^7보다 작은 값은 KATEC 좌표로 본다.
+   * 값이 없거나 숫자가 아니면 null을 반환한다.
+   *
+   * @param mapx
+   * @param mapy
+   * @return
+   */
+  public static GeoPoint fromNaver(String mapx, String mapy) {
+    var x = parse(mapx);
+    var y = parse(mapy);
+    if (Double.isNaN(x) || Double.isNaN(y)) {
+      return null;
+    }
+    if (x >= NAVER_WGS84_SCALE) {
+      return GeoPoint.of(y / NAVER_WGS84_SCALE, x / NAVER_WGS84_SCALE);
+    }
+    return fromKatec(x, y);
+  }
+
+  /**
+   * 두 좌표 사이의 거리(m)
+   * 가까운 장소끼리 비교하므로 두 위도의 평균으로 경도 간격을 보정한 평면 거리로 계산한다.
+   *
+   * @param from
+   * @param to
+   * @return
+   */
+  public static double distanceMeters(GeoPoint from, GeoPoint to) {
+    var meanLatitude = Math.toRadians((from.getLatitude() + to.getLatitude()) / 2);
+    var dx = (to.getLongitude() - from.getLongitude()) * Math.cos(meanLatitude);
+    var dy = to.getLatitude() - from.getLatitude();
+    return Math.sqrt(dx * dx + dy * dy) * METERS_PER_DEGREE;
+  }
+
+  /**
+   * 위도 1도의 거리(m)
+   *
+   * @return
+   */
+  public static double metersPerDegree() {
+    return METERS_PER_DEGREE;
+  }
+
+  private static GeoPoint fromKatec(double x, double y) {
+    var e2 = BESSEL_E2;
+    var e4 = e2 * e2;
+    var e6 = e4 * e2;
+
+    var meridianArc = meridianArc(KATEC_LATITUDE_ORIGIN) + (y - KATEC_FALSE_NORTHING) / KATEC_SCALE;
+    var mu = meridianArc / (BESSEL_A * (1 - e2 / 4 - 3 * e4 / 64 - 5 * e6 / 256));
+    var e1 = (1 - Math.sqrt(1 - e2)) / (1 + Math.sqrt(1 - e2));
+    var footprintLatitude = mu
+        + (3 * e1 / 2 - 27 * Math.pow(e1, 3) / 32) * Math.sin(2 * mu)
+        + (21 * e1 * e1 / 16 - 55 * Math.pow(e1, 4) / 32) * Math.sin(4 * mu)
+        + (151 * Math.pow(e1, 3) / 96) * Math.sin(6 * mu)
+        + (1097 * Math.pow(e1, 4) / 512) * Math.sin(8 * mu);
+
+    var sin = Math.sin(footprintLatitude);
+    var cos = Math.cos(footprintLatitude);
+    var tan = Math.tan(footprintLatitude);
+    var c1 = BESSEL_EP2 * cos * cos;
+    var t1 = tan * tan;
+    var n1 = BESSEL_A / Math.sqrt(1 - e2 * sin * sin);
+    var r1 = BESSEL_A * (1 - e2) / Math.pow(1 - e2 * sin * sin, 1.5);
+    var d = (x - KATEC_FALSE_EASTING) / (n1 * KATEC_SCALE);
+
+    var latitude = footprintLatitude - (n1 * tan / r1) * (d * d / 2
+        - (5 + 3 * t1 + 10 * c1 - 4 * c1 * c1 - 9 * BESSEL_EP2) * Math.pow(d, 4) / 24
+        + (61 + 90 * t1 + 298 * c1 + 45 * t1 * t1 - 252 * BESSEL_EP2 - 3 * c1 * c1) * Math.pow(d, 6) / 720);
+    var longitude = KATEC_LONGITUDE_ORIGIN + (d
+        - (1 + 2 * t1 + c1) * Math.pow(d, 3) / 6
+        + (5 - 2 * c1 + 28 * t1 - 3 * c1 * c1 + 8 * BESSEL_EP2 + 24 * t1 * t1) * Math.pow(d, 5) / 120) / cos;
+
+    return besselToWgs84(latitude, longitude);
+  }
+
+  private static double meridianArc(double latitude) {
+    var e2 = BESSEL_E2;
+    var e4 = e2 * e2;
+    var e6 = e4 * e2;
+    return BESSEL_A * ((1 - e2 / 4 - 3 * e4 / 64 - 5 * e6 / 256) * latitude
+        - (3 * e2 / 8 + 3 * e4 / 32 + 45 * e6 / 1024) * Math.sin(2 * latitude)
+        + (15 * e4 / 256 + 45 * e6 / 1024) * Math.sin(4 * latitude)
+        - (35 * e6 / 3072) * Math.sin(6 * latitude));
+  }
+
+  private static GeoPoint besselToWgs84(double latitude, double longitude) {
+    var sin = Math.sin(latitude);
+    var n = BESSEL_A / Math.sqrt(1 - BESSEL_E2 * sin * sin);
+    var x = n * Math.cos(latitude) * Math.cos(longitude) + TO_WGS84_DX;
+    var y = n * Math.cos(latitude) * Math.sin(longitude) + TO_WGS84_DY;
+    var z = n * (1 - BESSEL_E2) * sin + TO_WGS84_DZ;
+
+    var p = Math.hypot(x, y);
+    var wgs84Latitude = Math.atan2(z, p * (1 - WGS84_E2));
+    for (int i = 0; i < 5; i++) {
+      var wgs84Sin = Math.sin(wgs84Latitude);
+      var wgs84N = WGS84_A / Math.sqrt(1 - WGS84_E2 * wgs84Sin * wgs84Sin);
+      var height = p / Math.cos(wgs84Latitude) - wgs84N;
+      wgs84Latitude = Math.atan2(z, p * (1 - WGS84_E2 * wgs84N / (wgs84N + height)));
+    }
+    return GeoPoint.of(Math.toDegrees(wgs84Latitude), Math.toDegrees(Math.atan2(y, x)));
+  }
+
+  private static double parse(String value) {
+    if (value == null || value.isBlank()) {
+      return Double.NaN;
+    }
+    try {
+      return Double.parseDouble(value);
+    } catch (NumberFormatException e) {
+      return Double.NaN;
+    }
+  }
+}
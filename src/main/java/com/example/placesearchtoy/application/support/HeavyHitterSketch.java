@@ -0,0 +1,119 @@
+package com.example.placesearchtoy.application.support;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * 많이 검색된 키워드 근사 요약
+ * Space-Saving 방식으로 최대 capacity개 키워드의 횟수만 기록하고, 가득 차면 횟수가 가장 적은 키워드를 새 키워드로 바꾼다.
+ * 바꿀 때 Space-Saving은 가장 적은 횟수를 이어받아 실제보다 크게 세므로, Count-Min Sketch 근사치와 비교해 더 작은 값을 사용한다.
+ * 새 키워드의 근사치가 가장 적은 횟수를 넘지 못하면 바꾸지 않는다.
+ *
+ * 동기화하지 않으므로 한 스레드에서만 사용하거나 호출하는 쪽에서 동기화해야 한다.
+ */
+public class HeavyHitterSketch {
+
+  private final CountMinSketch countMinSketch;
+  private final int capacity;
+
+  private final Map<String, Entry> entries = new HashMap<>();
+  private final TreeSet<Entry> ordered = new TreeSet<>(Comparator.comparingLong((Entry entry) -> entry.count)
+                                                                 .thenComparing(entry -> entry.keyword));
+
+  /**
+   * @param epsilon  Count-Min Sketch 허용 오차
+   * @param delta    Count-Min Sketch 오차를 넘을 확률
+   * @param capacity 횟수를 기록할 최대 키워드 수
+   */
+  public HeavyHitterSketch(double epsilon, double delta, int capacity) {
+    if (capacity <= 0) {
+      throw new IllegalArgumentException("capacity must be positive: " + capacity);
+    }
+
+    this.countMinSketch = new CountMinSketch(epsilon, delta);
+    this.capacity = capacity;
+  }
+
+  /**
+   * 검색 횟수 더하기
+   *
+   * @param keyword
+   * @param hits
+   */
+  public void add(String keyword, long hits) {
+    var estimate = countMinSketch.add(keyword, hits);
+    var entry = entries.get(keyword);
+    if (entry != null) {
+      ordered.remove(entry);
+      entry.count = Math.min(entry.count + hits, estimate);
+      ordered.add(entry);
+      return;
+    }
+
+    if (entries.size() < capacity) {
+      put(keyword, estimate);
+      return;
+    }
+
+    var minimum = ordered.first();
+    var count = Math.min(minimum.count + hits, estimate);
+    if (count <= minimum.count) {
+      return;
+    }
+    ordered.pollFirst();
+    entries.remove(minimum.keyword);
+    put(keyword, count);
+  }
+
+  /**
+   * 많이 검색된 순서대로 최대 size개 키워드 검색 횟수
+   *
+   * @param size
+   * @return
+   */
+  public Map<String, Long> top(int size) {
+    Map<String, Long> top = new LinkedHashMap<>();
+    for (Entry entry : ordered.descendingSet()) {
+      if (top.size() >= size) {
+        break;
+      }
+      top.put(entry.keyword, entry.count);
+    }
+    return top;
+  }
+
+  /**
+   * 키워드 검색 횟수 근사치
+   *
+   * @param keyword
+   * @return
+   */
+  public long estimate(String keyword) {
+    var entry = entries.get(keyword);
+    return entry != null ? entry.count : countMinSketch.estimate(keyword);
+  }
+
+  public long getTotal() {
+    return countMinSketch.getTotal();
+  }
+
+  private void put(String keyword, long count) {
+    var entry = new Entry(keyword, count);
+    entries.put(keyword, entry);
+    ordered.add(entry);
+  }
+
+  private static final class Entry {
+
+    private final String keyword;
+    private long count;
+
+    private Entry(String keyword, long count) {
+      this.keyword = keyword;
+      this.count = count;
+    }
+  }
+}
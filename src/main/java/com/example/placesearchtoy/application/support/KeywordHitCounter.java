@@ -0,0 +1,72 @@
+package com.example.placesearchtoy.application.support;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 분 단위 키워드 검색 횟수를 메모리에서 모은다.
+ * (분, 키워드)마다 LongAdder를 두므로 같은 키워드를 동시에 세어도 락 경합이 없다.
+ *
+ * drain은 모인 횟수를 꺼내고 0으로 되돌린다. 지난 분의 항목은 한 번 더 0으로 꺼내진 뒤에 지워서,
+ * 분이 바뀌는 순간에 카운터를 먼저 찾아 둔 호출의 횟수가 지워진 카운터에 더해져 사라지지 않게 한다.
+ */
+public class KeywordHitCounter {
+
+  private final Map<HitKey, LongAdder> counters = new ConcurrentHashMap<>();
+
+  /**
+   * 검색 횟수 증가
+   *
+   * @param minute  epoch 기준 분
+   * @param keyword
+   */
+  public void increment(long minute, String keyword) {
+    add(minute, keyword, 1);
+  }
+
+  /**
+   * 검색 횟수 더하기
+   *
+   * @param minute  epoch 기준 분
+   * @param keyword
+   * @param hits
+   */
+  public void add(long minute, String keyword, long hits) {
+    counters.computeIfAbsent(new HitKey(minute, keyword), key -> new LongAdder()).add(hits);
+  }
+
+  /**
+   * 모인 검색 횟수 꺼내기
+   *
+   * @param currentMinute epoch 기준 현재 분
+   * @return 분별 키워드 검색 횟수
+   */
+  public Map<Long, Map<String, Long>> drain(long currentMinute) {
+    Map<Long, Map<String, Long>> hits = new HashMap<>();
+    for (var entry : counters.entrySet()) {
+      var key = entry.getKey();
+      var count = entry.getValue().sumThenReset();
+      if (count > 0) {
+        hits.computeIfAbsent(key.minute(), minute -> new HashMap<>()).put(key.keyword(), count);
+      } else if (key.minute() < currentMinute) {
+        counters.remove(key, entry.getValue());
+      }
+    }
+    return hits;
+  }
+
+  /**
+   * 꺼내지 않은 (분, 키워드) 개수
+   *
+   * @return
+   */
+  public int size() {
+    return counters.size();
+  }
+
+  private record HitKey(long minute, String keyword) {
+
+  }
+}
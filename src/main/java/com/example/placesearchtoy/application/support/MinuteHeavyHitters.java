@@ -0,0 +1,69 @@
+package com.example.placesearchtoy.application.support;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 분 단위 많이 검색된 키워드 근사 요약
+ * 분마다 HeavyHitterSketch 하나를 두고, 지난 분의 요약은 drain으로 꺼내면서 버리므로 메모리는 몇 분치 요약 크기로 고정된다.
+ */
+public class MinuteHeavyHitters {
+
+  private final double epsilon;
+  private final double delta;
+  private final int capacity;
+
+  private final Map<Long, HeavyHitterSketch> sketches = new HashMap<>();
+
+  /**
+   * @param epsilon  Count-Min Sketch 허용 오차
+   * @param delta    Count-Min Sketch 오차를 넘을 확률
+   * @param capacity 분마다 횟수를 기록할 최대 키워드 수
+   */
+  public MinuteHeavyHitters(double epsilon, double delta, int capacity) {
+    this.epsilon = epsilon;
+    this.delta = delta;
+    this.capacity = capacity;
+  }
+
+  /**
+   * 검색 횟수 더하기
+   *
+   * @param minute  epoch 기준 분
+   * @param keyword
+   * @param hits
+   */
+  public synchronized void add(long minute, String keyword, long hits) {
+    sketches.computeIfAbsent(minute, key -> new HeavyHitterSketch(epsilon, delta, capacity)).add(keyword, hits);
+  }
+
+  /**
+   * 지난 분의 요약 꺼내기
+   *
+   * @param untilMinute epoch 기준 분, 이 분보다 앞선 요약만 꺼낸다.
+   * @return 분별 많이 검색된 키워드 검색 횟수
+   */
+  public synchronized Map<Long, Map<String, Long>> drain(long untilMinute) {
+    Map<Long, Map<String, Long>> summaries = new HashMap<>();
+    var iterator = sketches.entrySet().iterator();
+    while (iterator.hasNext()) {
+      var entry = iterator.next();
+      if (entry.getKey() < untilMinute) {
+        summaries.put(entry.getKey(), entry.getValue().top(capacity));
+        iterator.remove();
+      }
+    }
+    return summaries;
+  }
+
+  /**
+   * 분의 요약 조회
+   *
+   * @param minute epoch 기준 분
+   * @return 많이 검색된 키워드 검색 횟수
+   */
+  public synchronized Map<String, Long> top(long minute) {
+    var sketch = sketches.get(minute);
+    return sketch != null ? sketch.top(capacity) : Map.of();
+  }
+}
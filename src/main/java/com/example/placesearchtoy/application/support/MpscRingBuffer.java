@@ -0,0 +1,110 @@
+package com.example.placesearchtoy.application.support;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * 크기가 고정된 락 없는 다중 생산자 단일 소비자 링 버퍼
+ * 칸마다 순번을 두어 생산자는 tail을 CAS로 차지한 칸에만 쓰고, 소비자는 순번으로 쓰기가 끝난 칸인지 확인한 뒤 읽는다.
+ * 가득 차면 offer가 기다리지 않고 false를 반환하므로 호출한 쪽이 버릴지 합칠지 정한다.
+ * poll과 drain은 한 스레드에서만 호출해야 한다.
+ *
+ * @param <E>
+ */
+public class MpscRingBuffer<E> {
+
+  private final AtomicReferenceArray<E> elements;
+  private final AtomicLongArray sequences;
+  private final int mask;
+
+  private final AtomicLong tail = new AtomicLong();
+  private volatile long head;
+
+  public MpscRingBuffer(int capacity) {
+    if (capacity <= 0) {
+      throw new IllegalArgumentException("capacity must be positive: " + capacity);
+    }
+
+    var size = Integer.highestOneBit(capacity) == capacity ? capacity : Integer.highestOneBit(capacity) << 1;
+    elements = new AtomicReferenceArray<>(size);
+    sequences = new AtomicLongArray(size);
+    for (int i = 0; i < size; i++) {
+      sequences.set(i, i);
+    }
+    mask = size - 1;
+  }
+
+  /**
+   * 원소 추가
+   *
+   * @param element
+   * @return 가득 차서 추가하지 못하면 false
+   */
+  public boolean offer(E element) {
+    while (true) {
+      var position = tail.get();
+      var index = (int) position & mask;
+      var difference = sequences.get(index) - position;
+      if (difference < 0) {
+        return false;
+      }
+      if (difference == 0 && tail.compareAndSet(position, position + 1)) {
+        elements.lazySet(index, element);
+        sequences.set(index, position + 1);
+        return true;
+      }
+    }
+  }
+
+  /**
+   * 원소 꺼내기
+   *
+   * @return 비어 있으면 null
+   */
+  public E poll() {
+    var position = head;
+    var index = (int) position & mask;
+    if (sequences.get(index) != position + 1) {
+      return null;
+    }
+
+    var element = elements.get(index);
+    elements.lazySet(index, null);
+    sequences.set(index, position + capacity());
+    head = position + 1;
+    return element;
+  }
+
+  /**
+   * 최대 limit개 원소 꺼내기
+   *
+   * @param consumer
+   * @param limit
+   * @return 꺼낸 원소 수
+   */
+  public int drain(Consumer<E> consumer, int limit) {
+    var drained = 0;
+    E element;
+    while (drained < limit && (element = poll()) != null) {
+      consumer.accept(element);
+      drained++;
+    }
+    return drained;
+  }
+
+  /**
+   * 대략적인 원소 수
+   * 생산자가 칸을 차지한 뒤 쓰기 전이면 아직 꺼낼 수 없는 원소도 포함한다.
+   *
+   * @return
+   */
+  public int size() {
+    return (int) Math.max(0, Math.min(tail.get() - head, capacity()));
+  }
+
+  public int capacity() {
+    return mask + 1;
+  }
+}
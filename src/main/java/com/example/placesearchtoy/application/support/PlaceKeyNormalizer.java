@@ -0,0 +1,163 @@
+package com.example.placesearchtoy.application.support;
+
+/**
+ * 장소 중복 판단 키 생성
+ * 장소명의 첫 단어에서 괄호 구간을 지우고, 도로명 주소에서 행정구역 접미어를 지운 뒤 공백으로 나눈 앞 5개 단어 중 제외 단어가 없는 단어를 이어 붙인다.
+ * 정규식 없이 문자 단위로 처리하며, 기존 정규식 구현과 같은 결과를 반환한다.
+ */
+public final class PlaceKeyNormalizer {
+
+  private static final int MAX_KEY_WORDS = 5;
+
+  private static final String[] ADDRESS_SUFFIXES = {"특별시", "광역시", "특별자치도", "도", "시", "지하"};
+
+  private static final String[] EXCEPT_WORDS = {"빌딩", "층", "호"};
+
+  private PlaceKeyNormalizer() {
+  }
+
+  /**
+   * 장소명과 도로명 주소로 중복 판단 키 생성
+   *
+   * @param name
+   * @param roadAddress
+   * @return
+   */
+  public static String normalize(String name, String roadAddress) {
+    var concatKey = new StringBuilder(name.length() + roadAddress.length() + 1);
+    appendWithoutBrackets(concatKey, firstWord(name));
+    concatKey.append(' ');
+    appendWithoutSuffixes(concatKey, roadAddress);
+    return joinKeyWords(concatKey);
+  }
+
+  /**
+   * 공백(' ')으로 나눈 첫 단어
+   * 공백으로 시작하거나 공백으로만 이루어진 장소명은 빈 단어를 반환하므로, 도로명 주소만으로 키를 만든다.
+   */
+  private static String firstWord(String name) {
+    var end = name.indexOf(' ');
+    return end < 0 ? name : name.substring(0, end);
+  }
+
+  /**
+   * (…), […], <…> 구간 제거
+   * 여는 괄호부터 같은 줄의 마지막 닫는 괄호까지 제거하고, 닫는 괄호가 없으면 여는 괄호를 그대로 둔다.
+   */
+  private static void appendWithoutBrackets(StringBuilder builder, String word) {
+    for (int i = 0; i < word.length(); i++) {
+      var close = closingBracket(word.charAt(i));
+      var end = close == 0 ? -1 : lastIndexOfInLine(word, close, i + 1);
+      if (end < 0) {
+        builder.append(word.charAt(i));
+      } else {
+        i = end;
+      }
+    }
+  }
+
+  private static char closingBracket(char open) {
+    return switch (open) {
+      case '(' -> ')';
+      case '[' -> ']';
+      case '<' -> '>';
+      default -> 0;
+    };
+  }
+
+  private static int lastIndexOfInLine(String word, char target, int from) {
+    var last = -1;
+    for (int i = from; i < word.length(); i++) {
+      var c = word.charAt(i);
+      if (isLineTerminator(c)) {
+        break;
+      }
+      if (c == target) {
+        last = i;
+      }
+    }
+    return last;
+  }
+
+  private static boolean isLineTerminator(char c) {
+    return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+  }
+
+  private static void appendWithoutSuffixes(StringBuilder builder, String roadAddress) {
+    for (int i = 0; i < roadAddress.length(); ) {
+      var suffixLength = suffixLengthAt(roadAddress, i);
+      if (suffixLength > 0) {
+        i += suffixLength;
+      } else {
+        builder.append(roadAddress.charAt(i++));
+      }
+    }
+  }
+
+  private static int suffixLengthAt(String roadAddress, int index) {
+    for (String suffix : ADDRESS_SUFFIXES) {
+      if (roadAddress.startsWith(suffix, index)) {
+        return suffix.length();
+      }
+    }
+    return 0;
+  }
+
+  /**
+   * 공백 문자로 나눈 앞 5개 단어 중 제외 단어가 없는 단어를 이어 붙임
+   * 공백으로 시작하면 맨 앞의 빈 단어도 5개에 포함한다.
+   */
+  private static String joinKeyWords(CharSequence concatKey) {
+    var key = new StringBuilder(concatKey.length());
+    var words = 0;
+    var length = concatKey.length();
+    var i = 0;
+    if (length > 0 && isWhitespace(concatKey.charAt(0))) {
+      words++;
+    }
+
+    while (i < length && words < MAX_KEY_WORDS) {
+      while (i < length && isWhitespace(concatKey.charAt(i))) {
+        i++;
+      }
+      var start = i;
+      while (i < length && !isWhitespace(concatKey.charAt(i))) {
+        i++;
+      }
+      if (start == i) {
+        break;
+      }
+      words++;
+      if (!hasExceptWord(concatKey, start, i)) {
+        key.append(concatKey, start, i);
+      }
+    }
+    return key.toString();
+  }
+
+  private static boolean isWhitespace(char c) {
+    return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+  }
+
+  private static boolean hasExceptWord(CharSequence concatKey, int start, int end) {
+    for (String exceptWord : EXCEPT_WORDS) {
+      if (indexOf(concatKey, exceptWord, start, end) >= 0) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static int indexOf(CharSequence text, String word, int start, int end) {
+    for (int i = start; i <= end - word.length(); i++) {
+      var matched = true;
+      for (int j = 0; j < word.length() && matched; j++) {
+        matched = text.charAt(i + j) == word.charAt(j);
+      }
+      if (matched) {
+        return i;
+      }
+    }
+    return -1;
+  }
+}
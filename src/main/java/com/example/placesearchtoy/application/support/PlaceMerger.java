@@ -0,0 +1,322 @@
+package com.example.placesearchtoy.application.support;
+
+import com.example.placesearchtoy.application.dto.PlaceDto;
+import com.example.placesearchtoy.application.model.GeoPoint;
+import com.example.placesearchtoy.application.model.ProviderPlaces;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 여러 검색 API의 장소 목록을 한 번 순회하며 합친다.
+ * 같은 장소를 묶어 검색된 횟수를 세고, 묶음마다 검색 API 우선순위가 가장 높은 장소, 같으면 먼저 조회된 장소 하나만 남긴다.
+ * 결과는 검색된 횟수가 많은 순, 같으면 검색 API 우선순위 순, 같으면 조회된 순으로 상위 limit개만 고른다.
+ * 검색 API 개수와 종류에 상관없이 동작하므로 검색 API가 추가되어도 수정할 필요가 없다.
+ *
+ * 좌표가 있는 장소는 반경 크기의 격자 칸으로 나누어 주변 칸에서만 후보를 찾고,
+ * 반경 안에 있고 장소명이 비슷하면 같은 장소로 본다. 같은 검색 API의 장소끼리는 묶지 않는다.
+ * 좌표가 없는 장소는 중복 판단 키가 같으면 같은 장소로 본다.
+ * 한 검색 API만 좌표를 주는 경우에도 묶이도록, 좌표가 있는 장소와 없는 장소 사이에는 중복 판단 키가 같은 다른 검색 API의 장소를 같은 장소로 본다.
+ */
+@Slf4j
+public final class PlaceMerger {
+
+  /**
+   * 경도 방향 칸 너비 보정값(cos 60도)
+   * 위도 60도 이하에서는 경도 방향 칸이 반경보다 넓으므로 주변 칸만 보아도 반경 안의 장소를 모두 찾는다.
+   */
+  private static final double MIN_LONGITUDE_SCALE = 0.5;
+
+  private PlaceMerger() {
+  }
+
+  /**
+   * 장소 목록 병합 - 중복 판단 키만 사용
+   *
+   * @param providerPlaces
+   * @param limit
+   * @return
+   */
+  public static List<PlaceDto> merge(List<ProviderPlaces> providerPlaces, int limit) {
+    return merge(providerPlaces, limit, 0, 0);
+  }
+
+  /**
+   * 장소 목록 병합
+   * 남기는 장소에만 검색된 횟수를 기록한다.
+   * 중복 판단 키를 만들 수 없는 장소는 로그를 남기고 검색된 횟수 없이 마지막 순서로 포함한다.
+   *
+   * @param providerPlaces
+   * @param limit
+   * @param radiusMeters   같은 장소로 볼 최대 거리(m), 0 이하이면 좌표를 사용하지 않는다.
+   * @param nameSimilarity 같은 장소로 볼 최소 장소명 유사도(0~1)
+   * @return
+   */
+  public static List<PlaceDto> merge(List<ProviderPlaces> providerPlaces, int limit, double radiusMeters, double nameSimilarity) {
+    var cellDegrees = radiusMeters / GeoCoordinates.metersPerDegree();
+    Map<String, Group> groups = new HashMap<>();
+    Map<Long, List<Group>> cells = new HashMap<>();
+    List<Group> orderedGroups = new ArrayList<>();
+
+    var index = 0;
+    for (int provider = 0; provider < providerPlaces.size(); provider++) {
+      var places = providerPlaces.get(provider);
+      var providerBit = 1L << Math.min(provider, Long.SIZE - 1);
+      var priority = places.getPriority();
+      for (PlaceDto place : places.getPlaces()) {
+        var location = radiusMeters > 0 ? place.getLocation() : null;
+        String key = null;
+        var keyed = true;
+        try {
+          key = place.getNameWithAddress();
+        } catch (RuntimeException e) {
+          log.warn("create place key fail: place - {}, e - {}", place, e.getMessage());
+          keyed = false;
+        }
+        if (location == null && !keyed) {
+          orderedGroups.add(new Group(place, priority, index++, 0));
+          continue;
+        }
+
+        var group = location != null ? findNearby(cells, place, location, providerBit, cellDegrees, radiusMeters, nameSimilarity) : null;
+        if (group == null && keyed) {
+          group = findByKey(groups, key, location, providerBit);
+        }
+        if (group == null) {
+          group = new Group(place, priority, index, 1);
+          orderedGroups.add(group);
+          if (keyed) {
+            groups.putIfAbsent(key, group);
+          }
+        } else {
+          group.add(place, priority, index);
+        }
+        if (location != null && group.location == null) {
+          group.location = location;
+          cells.computeIfAbsent(cellKey(location, cellDegrees, 0, 0), cell -> new ArrayList<>()).add(group);
+        }
+        group.providers |= providerBit;
+        index++;
+      }
+    }
+
+    var top = selectTop(orderedGroups, limit);
+    List<PlaceDto> merged = new ArrayList<>(top.length);
+    for (Group group : top) {
+      if (group.count > 0) {
+        group.place.updateMatchCount(group.count);
+      }
+      merged.add(group.place);
+    }
+    return merged;
+  }
+
+  /**
+   * 중복 판단 키로 같은 장소로 볼 묶음 조회
+   * 좌표가 둘 다 있으면 거리로만 판단하므로 찾지 않고, 한쪽만 있으면 다른 검색 API의 묶음만 찾는다.
+   *
+   * @param groups
+   * @param key
+   * @param location
+   * @param providerBit
+   * @return
+   */
+  private static Group findByKey(Map<String, Group> groups, String key, GeoPoint location, long providerBit) {
+    var group = groups.get(key);
+    if (group == null || location == null && group.location == null) {
+      return group;
+    }
+    if (location != null && group.location != null) {
+      return null;
+    }
+    return (group.providers & providerBit) == 0 ? group : null;
+  }
+
+  /**
+   * 주변 칸에서 같은 장소로 볼 묶음 조회
+   * 조건을 만족하는 묶음이 여러 개이면 가장 가까운 묶음을 반환한다.
+   *
+   * @param cells
+   * @param place
+   * @param location
+   * @param providerBit
+   * @param cellDegrees
+   * @param radiusMeters
+   * @param nameSimilarity
+   * @return
+   */
+  private static Group findNearby(Map<Long, List<Group>> cells, PlaceDto place, GeoPoint location, long providerBit, double cellDegrees,
+      double radiusMeters, double nameSimilarity) {
+    Group nearest = null;
+    var nearestDistance = radiusMeters;
+    int[] bigrams = null;
+    for (int latitudeOffset = -1; latitudeOffset <= 1; latitudeOffset++) {
+      for (int longitudeOffset = -1; longitudeOffset <= 1; longitudeOffset++) {
+        var candidates = cells.get(cellKey(location, cellDegrees, latitudeOffset, longitudeOffset));
+        if (candidates == null) {
+          continue;
+        }
+
+        for (Group candidate : candidates) {
+          if ((candidate.providers & providerBit) != 0) {
+            continue;
+          }
+          var distance = GeoCoordinates.distanceMeters(candidate.location, location);
+          if (distance > nearestDistance) {
+            continue;
+          }
+          if (bigrams == null) {
+            bigrams = bigrams(place.getName());
+          }
+          if (similarity(candidate.bigrams(), bigrams) >= nameSimilarity) {
+            nearest = candidate;
+            nearestDistance = distance;
+          }
+        }
+      }
+    }
+    return nearest;
+  }
+
+  private static long cellKey(GeoPoint location, double cellDegrees, int latitudeOffset, int longitudeOffset) {
+    var latitudeCell = (long) Math.floor(location.getLatitude() / cellDegrees) + latitudeOffset;
+    var longitudeCell = (long) Math.floor(location.getLongitude() * MIN_LONGITUDE_SCALE / cellDegrees) + longitudeOffset;
+    return latitudeCell << 32 ^ (longitudeCell & 0xffffffffL);
+  }
+
+  /**
+   * 장소명 글자 쌍 목록
+   * 공백을 제외한 연속된 두 글자를 하나의 int로 묶어 정렬한다. 한 글자 이름은 그 글자 하나로 대신한다.
+   *
+   * @param name
+   * @return
+   */
+  private static int[] bigrams(String name) {
+    var compact = new StringBuilder(name == null ? 0 : name.length());
+    if (name != null) {
+      for (int i = 0; i < name.length(); i++) {
+        var c = name.charAt(i);
+        if (!Character.isWhitespace(c)) {
+          compact.append(c);
+        }
+      }
+    }
+    if (compact.length() < 2) {
+      return compact.length() == 0 ? new int[0] : new int[]{compact.charAt(0)};
+    }
+
+    var bigrams = new int[compact.length() - 1];
+    for (int i = 0; i < bigrams.length; i++) {
+      bigrams[i] = compact.charAt(i) << 16 | compact.charAt(i + 1);
+    }
+    Arrays.sort(bigrams);
+    return bigrams;
+  }
+
+  /**
+   * 장소명 유사도(Dice 계수)
+   *
+   * @param first
+   * @param second
+   * @return
+   */
+  private static double similarity(int[] first, int[] second) {
+    if (first.length == 0 || second.length == 0) {
+      return 0;
+    }
+
+    var common = 0;
+    for (int i = 0, j = 0; i < first.length && j < second.length; ) {
+      if (first[i] == second[j]) {
+        common++;
+        i++;
+        j++;
+      } else if (first[i] < second[j]) {
+        i++;
+      } else {
+        j++;
+      }
+    }
+    return 2.0 * common / (first.length + second.length);
+  }
+
+  /**
+   * 상위 limit개 선택
+   * limit 크기의 배열에 순서를 유지하며 끼워 넣으므로 전체 목록을 정렬하지 않는다.
+   *
+   * @param groups
+   * @param limit
+   * @return
+   */
+  private static Group[] selectTop(List<Group> groups, int limit) {
+    var top = new Group[Math.min(limit, groups.size())];
+    var size = 0;
+    for (Group group : groups) {
+      if (size == top.length && (size == 0 || !group.precedes(top[size - 1]))) {
+        continue;
+      }
+
+      var position = size < top.length ? size++ : size - 1;
+      while (position > 0 && group.precedes(top[position - 1])) {
+        top[position] = top[position - 1];
+        position--;
+      }
+      top[position] = group;
+    }
+    return Arrays.copyOf(top, size);
+  }
+
+  /**
+   * 같은 장소 묶음
+   * 대표 장소가 바뀌면 장소명 비교도 새 대표 장소명으로 하도록 글자 쌍 목록을 다시 만든다.
+   * 좌표는 격자 칸을 정할 때 사용한 값이므로 대표 장소가 바뀌어도 처음 좌표가 있던 장소의 좌표로 고정하고, 거리는 이 좌표를 기준으로 판단한다.
+   */
+  private static final class Group {
+
+    private PlaceDto place;
+    private int priority;
+    private int index;
+    private int count;
+
+    private GeoPoint location;
+    private long providers;
+    private int[] bigrams;
+
+    private Group(PlaceDto place, int priority, int index, int count) {
+      this.place = place;
+      this.priority = priority;
+      this.index = index;
+      this.count = count;
+    }
+
+    private void add(PlaceDto place, int priority, int index) {
+      count++;
+      if (priority < this.priority) {
+        this.place = place;
+        this.priority = priority;
+        this.index = index;
+        this.bigrams = null;
+      }
+    }
+
+    private int[] bigrams() {
+      if (bigrams == null) {
+        bigrams = PlaceMerger.bigrams(place.getName());
+      }
+      return bigrams;
+    }
+
+    private boolean precedes(Group other) {
+      if (count != other.count) {
+        return count > other.count;
+      }
+      if (priority != other.priority) {
+        return priority < other.priority;
+      }
+      return index < other.index;
+    }
+  }
+}
@@ -0,0 +1,77 @@
+
+package com.example.placesearchtoy.application.support;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * 같은 키로 동시에 들어온 호출을 하나로 합친다.
+ * 먼저 들어온 호출만 function을 실행하고, 실행 중에 들어온 호출은 그 결과를 최대 followerTimeout만큼 기다려 함께 반환한다.
+ * 결과는 실행이 끝나는 즉시 버리므로 실패한 결과가 다음 호출에 재사용되지 않는다.
+ *
+ * @param <K>
+ * @param <V>
+ */
+public class SingleFlight<K, V> {
+
+  private final Map<K, CompletableFuture<V>> calls = new ConcurrentHashMap<>();
+
+  private final LongAdder collapsedCount = new LongAdder();
+
+  private final Duration followerTimeout;
+
+  public SingleFlight(Duration followerTimeout) {
+    this.followerTimeout = followerTimeout;
+  }
+
+  public V execute(K key, Function<K, V> function) {
+    var call = new CompletableFuture<V>();
+    var inFlightCall = calls.putIfAbsent(key, call);
+    if (inFlightCall != null) {
+      collapsedCount.increment();
+      return await(key, inFlightCall);
+    }
+
+    try {
+      var value = function.apply(key);
+      call.complete(value);
+      return value;
+    } catch (RuntimeException e) {
+      call.completeExceptionally(e);
+      throw e;
+    } finally {
+      calls.remove(key, call);
+    }
+  }
+
+  private V await(K key, CompletableFuture<V> inFlightCall) {
+    try {
+      return inFlightCall.get(followerTimeout.toNanos(), TimeUnit.NANOSECONDS);
+    } catch (TimeoutException e) {
+      throw new SingleFlightTimeoutException(key, followerTimeout);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("interrupted while waiting in-flight call: key - " + key, e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw new IllegalStateException(e.getCause());
+    }
+  }
+
+  public long getCollapsedCount() {
+    return collapsedCount.sum();
+  }
+
+  public int getInFlightCount() {
+    return calls.size();
+  }
+}
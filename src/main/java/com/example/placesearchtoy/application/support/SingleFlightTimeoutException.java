@@ -0,0 +1,11 @@
+
+package com.example.placesearchtoy.application.support;
+
+import java.time.Duration;
+
+public class SingleFlightTimeoutException extends RuntimeException {
+
+  public SingleFlightTimeoutException(Object key, Duration timeout) {
+    super("in-flight call timeout: key - " + key + ", timeout - " + timeout.toMillis() + "ms");
+  }
+}
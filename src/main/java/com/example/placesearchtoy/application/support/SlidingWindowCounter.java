@@ -0,0 +1,135 @@
+package com.example.placesearchtoy.application.support;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * 슬라이딩 윈도우 키워드 검색 횟수
+ * 윈도우를 bucketWidth 크기의 칸으로 나눈 고리에 칸별 횟수를 기록하고, 윈도우 전체 횟수와 그 순위를 함께 유지한다.
+ * 시간이 지나 칸을 다시 쓸 때 그 칸의 횟수만 전체 횟수에서 빼므로, 윈도우는 한 칸 단위로 움직이고 상위 목록 조회는 조회할 개수만큼만 순회한다.
+ */
+public class SlidingWindowCounter {
+
+  private final long bucketMillis;
+  private final Bucket[] buckets;
+
+  private final Map<String, Entry> totals = new HashMap<>();
+  private final TreeSet<Entry> ranking = new TreeSet<>(Comparator.comparingLong((Entry entry) -> entry.count)
+                                                                 .reversed()
+                                                                 .thenComparing(entry -> entry.keyword));
+
+  private long currentBucket = Long.MIN_VALUE;
+
+  /**
+   * @param bucketWidth  칸 크기
+   * @param windowLength 윈도우 길이, 칸 크기의 배수가 아니면 올림한다.
+   */
+  public SlidingWindowCounter(Duration bucketWidth, Duration windowLength) {
+    if (bucketWidth.toMillis() <= 0 || windowLength.compareTo(bucketWidth) < 0) {
+      throw new IllegalArgumentException("invalid sliding window: bucket width - " + bucketWidth + ", window length - " + windowLength);
+    }
+
+    bucketMillis = bucketWidth.toMillis();
+    buckets = new Bucket[(int) Math.ceil((double) windowLength.toMillis() / bucketMillis)];
+    for (int i = 0; i < buckets.length; i++) {
+      buckets[i] = new Bucket();
+    }
+  }
+
+  /**
+   * 검색 횟수 더하기
+   * 현재 칸보다 앞선 시각의 횟수는 현재 칸에 더한다.
+   *
+   * @param nowMillis epoch 기준 밀리초
+   * @param keyword
+   * @param hits
+   */
+  public synchronized void add(long nowMillis, String keyword, long hits) {
+    advance(nowMillis).counts.merge(keyword, hits, Long::sum);
+    update(keyword, hits);
+  }
+
+  /**
+   * 많이 검색된 순서대로 최대 size개 키워드 검색 횟수
+   *
+   * @param nowMillis epoch 기준 밀리초
+   * @param size
+   * @return
+   */
+  public synchronized Map<String, Long> top(long nowMillis, int size) {
+    advance(nowMillis);
+    Map<String, Long> top = new LinkedHashMap<>();
+    for (Entry entry : ranking) {
+      if (top.size() >= size) {
+        break;
+      }
+      top.put(entry.keyword, entry.count);
+    }
+    return top;
+  }
+
+  /**
+   * 윈도우 안의 키워드 수
+   *
+   * @return
+   */
+  public synchronized int size() {
+    return totals.size();
+  }
+
+  /**
+   * 현재 칸까지 고리를 돌리며 윈도우를 벗어난 칸의 횟수를 뺀다.
+   *
+   * @param nowMillis
+   * @return 현재 칸
+   */
+  private Bucket advance(long nowMillis) {
+    var index = Math.floorDiv(nowMillis, bucketMillis);
+    if (index > currentBucket) {
+      var from = currentBucket == Long.MIN_VALUE ? index : Math.max(currentBucket + 1, index - buckets.length + 1);
+      for (long expired = from; expired <= index; expired++) {
+        var bucket = buckets[(int) Math.floorMod(expired, (long) buckets.length)];
+        bucket.counts.forEach((keyword, hits) -> update(keyword, -hits));
+        bucket.counts.clear();
+      }
+      currentBucket = index;
+    }
+    return buckets[(int) Math.floorMod(currentBucket, (long) buckets.length)];
+  }
+
+  private void update(String keyword, long delta) {
+    var entry = totals.get(keyword);
+    if (entry == null) {
+      entry = new Entry(keyword);
+      totals.put(keyword, entry);
+    } else {
+      ranking.remove(entry);
+    }
+
+    entry.count += delta;
+    if (entry.count > 0) {
+      ranking.add(entry);
+    } else {
+      totals.remove(keyword);
+    }
+  }
+
+  private static final class Bucket {
+
+    private final Map<String, Long> counts = new HashMap<>();
+  }
+
+  private static final class Entry {
+
+    private final String keyword;
+    private long count;
+
+    private Entry(String keyword) {
+      this.keyword = keyword;
+    }
+  }
+}
@@ -0,0 +1,139 @@
+
+package com.example.placesearchtoy.configuration;
+
+import java.util.concurrent.ThreadPoolExecutor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.task.TaskExecutorBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class ExecutorConfiguration {
+
+  @Value("${search.fan-out.pool-size}")
+  private int providerPoolSize;
+
+  @Value("${search.fan-out.queue-capacity}")
+  private int providerQueueCapacity;
+
+  @Value("${search.hedging.pool-size}")
+  private int hedgePoolSize;
+
+  @Value("${search.batch.concurrency}")
+  private int batchConcurrency;
+
+  @Value("${search.batch.queue-capacity}")
+  private int batchQueueCapacity;
+
+  @Value("${search.cache.refresh-pool-size}")
+  private int cacheRefreshPoolSize;
+
+  @Value("${search.cache.warm.concurrency}")
+  private int cacheWarmConcurrency;
+
+  @Value("${search.cache.warm.top-keywords}")
+  private int cacheWarmTopKeywords;
+
+  /**
+   * 기본 @Async 실행기
+   * 실행기 빈을 직접 등록하면 스프링 부트의 기본 실행기 등록이 생략되므로 동일한 설정으로 다시 등록한다.
+   * 가상 스레드 실행 모드에서는 VirtualThreadConfiguration의 실행기를 사용한다.
+   *
+   * @param builder
+   * @return
+   */
+  @Bean(name = {"applicationTaskExecutor", "taskExecutor"})
+  @Profile("!virtual-threads")
+  public ThreadPoolTaskExecutor applicationTaskExecutor(TaskExecutorBuilder builder) {
+    return builder.build();
+  }
+
+  /**
+   * 검색 API 동시 호출 실행기
+   * 대기열이 가득 차면 요청 스레드에서 호출하지 않고 거절하여, 요청 스레드가 마감 시간을 넘겨 기다리지 않게 한다.
+   *
+   * @return
+   */
+  @Bean
+  @Profile("!virtual-threads")
+  public ThreadPoolTaskExecutor providerExecutor() {
+    var executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(providerPoolSize);
+    executor.setMaxPoolSize(providerPoolSize);
+    executor.setQueueCapacity(providerQueueCapacity);
+    executor.setThreadNamePrefix("provider-");
+    executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+    return executor;
+  }
+
+  /**
+   * 검색 API 헤지 요청 실행기
+   * 첫 요청과 헤지 요청을 함께 실행하므로 검색 API 동시 호출 수의 두 배까지 사용할 수 있다.
+   * 스레드가 모두 사용 중이면 거절하고, RequestHedger가 첫 요청은 호출한 스레드에서 실행하고 헤지 요청은 보내지 않는다.
+   *
+   * @return
+   */
+  @Bean
+  @Profile("!virtual-threads")
+  public ThreadPoolTaskExecutor hedgeExecutor() {
+    var executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(hedgePoolSize);
+    executor.setMaxPoolSize(hedgePoolSize);
+    executor.setQueueCapacity(0);
+    executor.setThreadNamePrefix("hedge-");
+    executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+    return executor;
+  }
+
+  /**
+   * 여러 검색어 장소 목록 조회 실행기
+   * 모든 일괄 조회 요청이 함께 사용하므로 동시에 조회하는 검색어 수가 스레드 수로 제한되고,
+   * 대기열이 가득 차면 요청 스레드에서 직접 조회하여 요청 속도를 늦춘다.
+   *
+   * @return
+   */
+  @Bean
+  public ThreadPoolTaskExecutor batchSearchExecutor() {
+    var executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(batchConcurrency);
+    executor.setMaxPoolSize(batchConcurrency);
+    executor.setQueueCapacity(batchQueueCapacity);
+    executor.setThreadNamePrefix("batch-search-");
+    executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+    return executor;
+  }
+
+  /**
+   * 장소 캐시 백그라운드 갱신 실행기
+   * 대기열이 가득 차면 갱신을 건너뛰고 기존 캐시를 만료 시점까지 사용한다.
+   *
+   * @return
+   */
+  @Bean
+  public ThreadPoolTaskExecutor cacheRefreshExecutor() {
+    var executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(cacheRefreshPoolSize);
+    executor.setMaxPoolSize(cacheRefreshPoolSize);
+    executor.setQueueCapacity(cacheRefreshPoolSize * 16);
+    executor.setThreadNamePrefix("cache-refresh-");
+    return executor;
+  }
+
+  /**
+   * 인기 키워드 캐시 갱신 실행기
+   * 동시에 갱신하는 키워드 수를 제한하고, 갱신이 밀려 대기열이 가득 차면 해당 키워드는 다음 주기에 갱신한다.
+   *
+   * @return
+   */
+  @Bean
+  public ThreadPoolTaskExecutor cacheWarmExecutor() {
+    var executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(cacheWarmConcurrency);
+    executor.setMaxPoolSize(cacheWarmConcurrency);
+    executor.setQueueCapacity(cacheWarmTopKeywords);
+    executor.setThreadNamePrefix("cache-warm-");
+    return executor;
+  }
+}
@@ -2,21 +2,19 @@
 package com.example.placesearchtoy.configuration;
 
 import feign.RequestInterceptor;
-import org.springframework.beans.factory.annotation.Value;
+import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
+@RequiredArgsConstructor
 public class KakaoFeignConfiguration {
 
-  @Value("${kakao.search-api.app-key}")
-  private String appKey;
-
-
+  private final ProviderApiHeaders providerApiHeaders;
 
   @Bean
   public RequestInterceptor kakaoRequestInterceptor() {
-    var authorization = "KakaoAK " + appKey;
-    return request -> request.header("Authorization", authorization);
+    var headers = providerApiHeaders.kakao();
+    return request -> headers.forEach(request::header);
   }
 }
@@ -2,22 +2,19 @@
 package com.example.placesearchtoy.configuration;
 
 import feign.RequestInterceptor;
-import org.springframework.beans.factory.annotation.Value;
+import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
+@RequiredArgsConstructor
 public class NaverFeignConfiguration {
 
-  @Value("${naver.search-api.client.id}")
-  private String clientId;
-
-  @Value("${naver.search-api.client.secret}")
-  private String clientSecret;
+  private final ProviderApiHeaders providerApiHeaders;
 
   @Bean
   public RequestInterceptor naverRequestInterceptor() {
-    return request -> request.header("X-Naver-Client-Id", clientId)
-                             .header("X-Naver-Client-Secret", clientSecret);
+    var headers = providerApiHeaders.naver();
+    return request -> headers.forEach(request::header);
   }
 }
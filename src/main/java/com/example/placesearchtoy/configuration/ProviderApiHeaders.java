@@ -0,0 +1,40 @@
+package com.example.placesearchtoy.configuration;
+
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 검색 API 인증 헤더
+ * Feign 클라이언트와 WebClient가 같은 헤더로 호출하도록 한 곳에서 만든다.
+ */
+@Component
+public class ProviderApiHeaders {
+
+  @Value("${kakao.search-api.app-key}")
+  private String kakaoAppKey;
+
+  @Value("${naver.search-api.client.id}")
+  private String naverClientId;
+
+  @Value("${naver.search-api.client.secret}")
+  private String naverClientSecret;
+
+  /**
+   * 카카오 검색 API 인증 헤더
+   *
+   * @return
+   */
+  public Map<String, String> kakao() {
+    return Map.of("Authorization", "KakaoAK " + kakaoAppKey);
+  }
+
+  /**
+   * 네이버 검색 API 인증 헤더
+   *
+   * @return
+   */
+  public Map<String, String> naver() {
+    return Map.of("X-Naver-Client-Id", naverClientId, "X-Naver-Client-Secret", naverClientSecret);
+  }
+}
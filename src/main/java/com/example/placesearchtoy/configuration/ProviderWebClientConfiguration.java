@@ -0,0 +1,105 @@
+package com.example.placesearchtoy.configuration;
+
+import java.time.Duration;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+@Configuration
+@RequiredArgsConstructor
+public class ProviderWebClientConfiguration {
+
+  private final ProviderApiHeaders providerApiHeaders;
+
+  @Value("${kakao.search-api.url}")
+  private String kakaoUrl;
+
+  @Value("${naver.search-api.url}")
+  private String naverUrl;
+
+  @Value("${search.transport.max-connections}")
+  private int maxConnections;
+
+  @Value("${search.transport.max-idle-time}")
+  private Duration maxIdleTime;
+
+  @Value("${search.transport.pending-acquire-timeout}")
+  private Duration pendingAcquireTimeout;
+
+  /**
+   * 카카오 검색 API 연결 풀
+   *
+   * @return
+   */
+  @Bean(destroyMethod = "dispose")
+  public ConnectionProvider kakaoConnectionProvider() {
+    return connectionProvider("kakao");
+  }
+
+  /**
+   * 네이버 검색 API 연결 풀
+   *
+   * @return
+   */
+  @Bean(destroyMethod = "dispose")
+  public ConnectionProvider naverConnectionProvider() {
+    return connectionProvider("naver");
+  }
+
+  @Bean
+  public WebClient kakaoWebClient(WebClient.Builder builder,
+      @Qualifier("kakaoConnectionProvider") ConnectionProvider connectionProvider) {
+    return builder.clone()
+                  .baseUrl(kakaoUrl)
+                  .defaultHeaders(headers -> headers.setAll(providerApiHeaders.kakao()))
+                  .clientConnector(connector(connectionProvider))
+                  .build();
+  }
+
+  @Bean
+  public WebClient naverWebClient(WebClient.Builder builder,
+      @Qualifier("naverConnectionProvider") ConnectionProvider connectionProvider) {
+    return builder.clone()
+                  .baseUrl(naverUrl)
+                  .defaultHeaders(headers -> headers.setAll(providerApiHeaders.naver()))
+                  .clientConnector(connector(connectionProvider))
+                  .build();
+  }
+
+  /**
+   * 검색 API 호스트별 연결 풀 생성
+   * 유휴 연결은 백그라운드에서 정리하고, 연결 풀 상태는 reactor.netty.connection.provider 지표로 노출한다.
+   *
+   * @param name
+   * @return
+   */
+  private ConnectionProvider connectionProvider(String name) {
+    return ConnectionProvider.builder(name)
+                             .maxConnections(maxConnections)
+                             .maxIdleTime(maxIdleTime)
+                             .pendingAcquireTimeout(pendingAcquireTimeout)
+                             .evictInBackground(maxIdleTime)
+                             .metrics(true)
+                             .build();
+  }
+
+  /**
+   * HTTP/2를 우선 사용하고, 서버가 지원하지 않으면 HTTP/1.1 keep-alive 연결을 사용한다.
+   *
+   * @param connectionProvider
+   * @return
+   */
+  private ReactorClientHttpConnector connector(ConnectionProvider connectionProvider) {
+    var httpClient = HttpClient.create(connectionProvider)
+                               .protocol(HttpProtocol.H2, HttpProtocol.HTTP11)
+                               .keepAlive(true);
+    return new ReactorClientHttpConnector(httpClient);
+  }
+}
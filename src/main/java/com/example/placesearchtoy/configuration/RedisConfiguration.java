@@ -9,7 +9,9 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 import redis.embedded.RedisServer;
 
@@ -38,6 +40,11 @@ public class RedisConfiguration {
     return redisTemplate;
   }
 
+  @Bean
+  public ReactiveRedisTemplate<String, String> reactiveRedisTemplate() {
+    return new ReactiveRedisTemplate<>(redisConnectionFactory(), RedisSerializationContext.string());
+  }
+
   @PostConstruct
   public void redisServer() throws IOException {
     redisServer = new RedisServer(port);
@@ -0,0 +1,60 @@
+package com.example.placesearchtoy.configuration;
+
+import java.util.concurrent.ExecutorService;
+import org.apache.coyote.ProtocolHandler;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+
+/**
+ * 가상 스레드 실행 모드
+ * 요청 처리(Tomcat), @Async 이벤트 처리, 검색 API 동시 호출을 모두 가상 스레드에서 실행한다.
+ * 블로킹 코드를 그대로 두고 스레드 수 제한만 없애므로, 검색 API 동시 호출 수는 벌크헤드 설정으로 제한한다.
+ */
+@Configuration
+@Profile("virtual-threads")
+public class VirtualThreadConfiguration {
+
+  @Bean(destroyMethod = "shutdown")
+  public ExecutorService requestVirtualThreadExecutor() {
+    return VirtualThreads.newExecutor("request-");
+  }
+
+  @Bean
+  public TomcatProtocolHandlerCustomizer<ProtocolHandler> virtualThreadProtocolHandlerCustomizer(
+      ExecutorService requestVirtualThreadExecutor) {
+    return protocolHandler -> protocolHandler.setExecutor(requestVirtualThreadExecutor);
+  }
+
+  /**
+   * 기본 @Async 실행기 - 가상 스레드
+   *
+   * @return
+   */
+  @Bean(name = {"applicationTaskExecutor", "taskExecutor"})
+  public TaskExecutorAdapter applicationTaskExecutor() {
+    return new TaskExecutorAdapter(VirtualThreads.newExecutor("task-"));
+  }
+
+  /**
+   * 검색 API 동시 호출 실행기 - 가상 스레드
+   *
+   * @return
+   */
+  @Bean
+  public TaskExecutorAdapter providerExecutor() {
+    return new TaskExecutorAdapter(VirtualThreads.newExecutor("provider-"));
+  }
+
+  /**
+   * 검색 API 헤지 요청 실행기 - 가상 스레드
+   *
+   * @return
+   */
+  @Bean
+  public TaskExecutorAdapter hedgeExecutor() {
+    return new TaskExecutorAdapter(VirtualThreads.newExecutor("hedge-"));
+  }
+}
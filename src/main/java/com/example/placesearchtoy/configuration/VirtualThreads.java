@@ -0,0 +1,34 @@
+package com.example.placesearchtoy.configuration;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * 가상 스레드 실행기 생성
+ * 컴파일 대상(Java 16)에는 가상 스레드 API가 없으므로 리플렉션으로 생성하며, JDK 21 이상에서 실행해야 한다.
+ */
+public final class VirtualThreads {
+
+  private VirtualThreads() {
+  }
+
+  /**
+   * 작업마다 새 가상 스레드를 생성하는 실행기
+   *
+   * @param threadNamePrefix
+   * @return
+   */
+  public static ExecutorService newExecutor(String threadNamePrefix) {
+    try {
+      var builderType = Class.forName("java.lang.Thread$Builder");
+      var builder = Thread.class.getMethod("ofVirtual").invoke(null);
+      builder = builderType.getMethod("name", String.class, long.class).invoke(builder, threadNamePrefix, 0L);
+      var threadFactory = (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+      return (ExecutorService) Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class)
+                                              .invoke(null, threadFactory);
+    } catch (ReflectiveOperationException e) {
+      throw new IllegalStateException("virtual threads require JDK 21 or later, current - " + Runtime.version(), e);
+    }
+  }
+}
@@ -0,0 +1,35 @@
+package com.example.placesearchtoy.ui;
+
+import com.example.placesearchtoy.ui.dto.Response;
+import javax.validation.ConstraintViolationException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+/**
+ * 검색 컨트롤러 공통 예외 처리
+ * 프로필에 따라 SearchController, ReactiveSearchController 중 하나만 등록되므로 두 컨트롤러가 함께 사용한다.
+ */
+@Slf4j
+@RestControllerAdvice
+public class ControllerExceptionHandler {
+
+  @ExceptionHandler(ConstraintViolationException.class)
+  public Response handleConstraintViolationException(ConstraintViolationException e) {
+    return Response.ofFail(HttpStatus.BAD_REQUEST.value(), e.getMessage());
+  }
+
+  @ExceptionHandler(MethodArgumentNotValidException.class)
+  public Response handleMethodArgumentNotValidException(MethodArgumentNotValidException e) {
+    var fieldError = e.getBindingResult().getFieldError();
+    return Response.ofFail(HttpStatus.BAD_REQUEST.value(), fieldError != null ? fieldError.getDefaultMessage() : e.getMessage());
+  }
+
+  @ExceptionHandler(RuntimeException.class)
+  public Response handleRuntimeException(RuntimeException e) {
+    log.error("occur runtime exception", e);
+    return Response.ofFail(HttpStatus.INTERNAL_SERVER_ERROR.value(), e.getMessage());
+  }
+}
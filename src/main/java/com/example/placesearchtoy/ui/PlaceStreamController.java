@@ -0,0 +1,41 @@
+package com.example.placesearchtoy.ui;
+
+import com.example.placesearchtoy.application.service.SearchQueryService;
+import com.example.placesearchtoy.ui.dto.Response;
+import javax.validation.constraints.NotBlank;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+
+/**
+ * 장소 목록 스트리밍 API
+ * 서블릿과 리액티브 스택 모두 Flux 반환을 지원하므로 프로필과 관계없이 등록한다.
+ */
+@Validated
+@RestController
+@RequiredArgsConstructor
+public class PlaceStreamController {
+
+  private final SearchQueryService searchQueryService;
+
+  /**
+   * 검색어와 관련된 장소 목록 조회 - Server-Sent Events
+   * 검색 API가 응답할 때마다 중간 목록을 partial 이벤트로, 최종 목록을 complete 이벤트로 전달한다.
+   *
+   * @param query
+   * @return
+   */
+  @GetMapping(value = "/api/search/places/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  public Flux<ServerSentEvent<Response>> streamPlaces(@RequestParam @NotBlank(message = "검색어가 존재하지 않습니다.") String query) {
+    var filteredQuery = searchQueryService.filteredQuery(query);
+    return searchQueryService.streamPlaces(filteredQuery)
+                             .map(update -> ServerSentEvent.builder(Response.ofSuccess(update))
+                                                           .event(update.isCompleted() ? "complete" : "partial")
+                                                           .build());
+  }
+}
@@ -0,0 +1,35 @@
+
+package com.example.placesearchtoy.ui;
+
+import com.example.placesearchtoy.application.service.KeywordHitsService;
+import com.example.placesearchtoy.application.service.SearchQueryService;
+import com.example.placesearchtoy.ui.dto.Response;
+import javax.validation.constraints.NotBlank;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+@Validated
+@RestController
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveSearchController {
+
+  private final SearchQueryService searchQueryService;
+  private final KeywordHitsService keywordHitsService;
+
+  @GetMapping("/api/search/places")
+  public Mono<Response> searchPlaces(@RequestParam @NotBlank(message = "검색어가 존재하지 않습니다.") String query) {
+    var filteredQuery = searchQueryService.filteredQuery(query);
+    return searchQueryService.searchPlacesAsync(filteredQuery).map(Response::ofSuccess);
+  }
+
+  @GetMapping("/api/search/top-keywords")
+  public Mono<Response> searchTop10KeywordHits() {
+    return keywordHitsService.searchTopKeywordHitsAsync(10).map(Response::ofSuccess);
+  }
+}
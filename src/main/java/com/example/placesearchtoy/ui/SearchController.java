@@ -2,26 +2,29 @@
 package com.example.placesearchtoy.ui;
 
 import com.example.placesearchtoy.application.service.KeywordHitsService;
+import com.example.placesearchtoy.application.service.PlaceBatchSearchService;
 import com.example.placesearchtoy.application.service.SearchQueryService;
+import com.example.placesearchtoy.ui.dto.PlaceBatchSearchRequest;
 import com.example.placesearchtoy.ui.dto.Response;
-import javax.validation.ConstraintViolationException;
+import javax.validation.Valid;
 import javax.validation.constraints.NotBlank;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
-import org.springframework.http.HttpStatus;
+import org.springframework.context.annotation.Profile;
 import org.springframework.validation.annotation.Validated;
-import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
-@Slf4j
 @Validated
 @RestController
+@Profile("!reactive")
 @RequiredArgsConstructor
 public class SearchController {
 
   private final SearchQueryService searchQueryService;
+  private final PlaceBatchSearchService placeBatchSearchService;
   private final KeywordHitsService keywordHitsService;
 
   @GetMapping("/api/search/places")
@@ -30,19 +33,13 @@ public class SearchController {
     return Response.ofSuccess(searchQueryService.searchPlaces(filteredQuery));
   }
 
+  @PostMapping("/api/search/places/batch")
+  public Response searchPlacesBatch(@RequestBody @Valid PlaceBatchSearchRequest request) {
+    return Response.ofSuccess(placeBatchSearchService.searchPlaces(request.getQueries()));
+  }
+
   @GetMapping("/api/search/top-keywords")
   public Response searchTop10KeywordHits() {
     return Response.ofSuccess(keywordHitsService.searchTop10KeywordHits());
   }
-
-  @ExceptionHandler(ConstraintViolationException.class)
-  public Response handleConstraintViolationException(ConstraintViolationException e) {
-    return Response.ofFail(HttpStatus.BAD_REQUEST.value(), e.getMessage());
-  }
-
-  @ExceptionHandler(RuntimeException.class)
-  public Response handleRuntimeException(RuntimeException e) {
-    log.error("occur runtime exception", e);
-    return Response.ofFail(HttpStatus.INTERNAL_SERVER_ERROR.value(), e.getMessage());
-  }
 }
@@ -0,0 +1,19 @@
+package com.example.placesearchtoy.ui.dto;
+
+import java.util.List;
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.Size;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class PlaceBatchSearchRequest {
+
+  public static final int MAX_QUERIES = 50;
+
+  @NotEmpty(message = "검색어가 존재하지 않습니다.")
+  @Size(max = MAX_QUERIES, message = "검색어는 최대 " + MAX_QUERIES + "개까지 요청할 수 있습니다.")
+  private List<@NotBlank(message = "검색어가 존재하지 않습니다.") String> queries;
+}
@@ -0,0 +1,20 @@
+-- 10분 누적 키워드 순위 생성
+-- KEYS[1]: 현재 분 누적 키, KEYS[2]: 조회 키, KEYS[3..]: 누적할 분 단위 키
+-- ARGV[1]: 남길 상위 키워드 수(0 이하이면 모두 남김), ARGV[2]: 누적 키 만료 시간(초)
+local destination = KEYS[1]
+local view = KEYS[2]
+local sources = {}
+for i = 3, #KEYS do
+  sources[#sources + 1] = KEYS[i]
+end
+
+redis.call('ZUNIONSTORE', destination, #sources, unpack(sources))
+
+local topK = tonumber(ARGV[1])
+if topK > 0 then
+  redis.call('ZREMRANGEBYRANK', destination, 0, -topK - 1)
+end
+redis.call('EXPIRE', destination, ARGV[2])
+redis.call('SET', view, destination)
+
+return redis.call('ZCARD', destination)
@@ -0,0 +1,95 @@
+package com.example.placesearchtoy.adapter.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.example.placesearchtoy.configuration.ProviderApiHeaders;
+import io.netty.handler.timeout.ReadTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+/**
+ * 로컬 HTTP 서버에 WebClient를 연결해 실제 요청 경로, 파라미터, 인증 헤더와 응답 대기 시간을 확인한다.
+ * 운영 연결은 HTTP/2를 위해 TLS가 필요하므로, 인증 헤더만 ProviderApiHeaders에서 가져오고 평문 연결을 사용한다.
+ */
+public class KakaoAsyncClientTest {
+
+  private DisposableServer server;
+
+  private KakaoAsyncClient kakaoAsyncClient;
+
+  private final AtomicReference<String> requestUri = new AtomicReference<>();
+  private final AtomicReference<String> authorization = new AtomicReference<>();
+  private final AtomicReference<Duration> responseDelay = new AtomicReference<>(Duration.ZERO);
+
+  private final String appKey = "test-app-key";
+  private final String query = "떡볶이";
+  private final String body = "{\"documents\":[{\"place_name\":\"동대문엽기떡볶이 동대문본점\",\"road_address_name\":\"서울 중구 다산로 265\","
+      + "\"x\":\"127.0\",\"y\":\"37.5\"}],\"meta\":{}}";
+
+  @BeforeEach
+  public void setUp() {
+    server = HttpServer.create()
+                       .port(0)
+                       .route(routes -> routes.get("/v2/local/search/keyword.json", (request, response) -> {
+                         requestUri.set(request.uri());
+                         authorization.set(request.requestHeaders().get("Authorization"));
+                         return Mono.delay(responseDelay.get())
+                                    .then(response.header("Content-Type", "application/json")
+                                                  .sendString(Mono.just(body), StandardCharsets.UTF_8)
+                                                  .then());
+                       }))
+                       .bindNow();
+
+    var providerApiHeaders = new ProviderApiHeaders();
+    ReflectionTestUtils.setField(providerApiHeaders, "kakaoAppKey", appKey);
+
+    var webClient = WebClient.builder()
+                             .baseUrl("http://localhost:" + server.port())
+                             .defaultHeaders(headers -> headers.setAll(providerApiHeaders.kakao()))
+                             .clientConnector(new ReactorClientHttpConnector())
+                             .build();
+    kakaoAsyncClient = new KakaoAsyncClient(webClient);
+  }
+
+  @AfterEach
+  public void tearDown() {
+    server.disposeNow();
+  }
+
+  @Test
+  @DisplayName("카카오 키워드 장소 검색 - 검색어와 개수를 파라미터로, 앱 키를 인증 헤더로 보내고 응답 문서 목록 반환")
+  public void searchKeywordLocal_1() {
+    var actual = kakaoAsyncClient.searchKeywordLocal(query, 5, Duration.ofSeconds(1)).block();
+
+    assertEquals("/v2/local/search/keyword.json?query=%EB%96%A1%EB%B3%B6%EC%9D%B4&size=5", requestUri.get());
+    assertEquals("KakaoAK " + appKey, authorization.get());
+    assertEquals(1, actual.getDocuments().size());
+    assertEquals("동대문엽기떡볶이 동대문본점", actual.getDocuments().get(0).getPlaceName());
+    assertEquals("서울 중구 다산로 265", actual.getDocuments().get(0).getRoadAddress());
+  }
+
+  @Test
+  @DisplayName("카카오 키워드 장소 검색 - 응답 대기 시간을 넘길 경우, 읽기 제한 시간 초과 예외 발생")
+  public void searchKeywordLocal_2() {
+    responseDelay.set(Duration.ofMillis(500));
+
+    var exception = assertThrows(WebClientRequestException.class,
+        () -> kakaoAsyncClient.searchKeywordLocal(query, 5, Duration.ofMillis(50)).block());
+
+    assertInstanceOf(ReadTimeoutException.class, exception.getCause());
+  }
+}
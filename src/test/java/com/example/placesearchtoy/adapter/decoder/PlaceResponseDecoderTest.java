@@ -0,0 +1,75 @@
+package com.example.placesearchtoy.adapter.decoder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.example.placesearchtoy.application.model.type.ProviderType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import feign.FeignException;
+import feign.Request;
+import feign.Request.HttpMethod;
+import feign.Response;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class PlaceResponseDecoderTest {
+
+  private final PlaceResponseDecoder decoder = new PlaceResponseDecoder(new ObjectMapper());
+
+  private final String naverBody = """
+      {"lastBuildDate":"Tue, 05 Jul 2022 21:00:00 +0900","total":2,"start":1,"display":2,
+       "items":[
+        {"title":"<b>동대문엽기떡볶이</b> 동대문본점","link":"","category":"음식점>분식","tags":["a",{"b":[1,2]}],
+         "address":"서울특별시 중구 신당동","roadAddress":"서울특별시 중구 다산로 265 럭키프라자","mapx":"310000","mapy":"552000"},
+        {"roadAddress":"서울특별시 마포구 양화로 100","title":"<<b>b>떡볶이 1번지"}
+       ]}
+      """;
+
+  private final String kakaoBody = """
+      {"meta":{"same_name":{"region":[],"keyword":"떡볶이","selected_region":""},"total_count":1,"is_end":true},
+       "documents":[{"address_name":"서울 중구 신당동 292-109","place_name":"동대문엽기떡볶이 동대문본점",
+         "road_address_name":"서울 중구 다산로 265","x":"127.0","y":"37.5","distance":""}]}
+      """;
+
+  @Test
+  @DisplayName("네이버 응답 변환 - 필요 없는 필드는 건너뛰고, 장소명의 강조 태그를 제거한 장소 목록 반환")
+  public void decodeNaver_1() throws Exception {
+    var actuals = decoder.decodeNaver(new ByteArrayInputStream(naverBody.getBytes(StandardCharsets.UTF_8)));
+
+    assertEquals(2, actuals.size());
+    assertEquals("동대문엽기떡볶이 동대문본점", actuals.get(0).getName());
+    assertEquals("서울특별시 중구 다산로 265 럭키프라자", actuals.get(0).getRoadAddress());
+    assertEquals(ProviderType.NAVER, actuals.get(0).getProviderType());
+    assertEquals(37.566, actuals.get(0).getLocation().getLatitude(), 0.001);
+    assertEquals(126.979, actuals.get(0).getLocation().getLongitude(), 0.001);
+    assertEquals("<b>떡볶이 1번지", actuals.get(1).getName());
+    assertEquals("서울특별시 마포구 양화로 100", actuals.get(1).getRoadAddress());
+    assertNull(actuals.get(1).getLocation());
+  }
+
+  @Test
+  @DisplayName("카카오 응답 변환 - 메타 정보는 건너뛰고 장소 목록 반환")
+  public void decodeKakao_1() throws Exception {
+    var actuals = decoder.decodeKakao(new ByteArrayInputStream(kakaoBody.getBytes(StandardCharsets.UTF_8)));
+
+    assertEquals(1, actuals.size());
+    assertEquals("동대문엽기떡볶이 동대문본점", actuals.get(0).getName());
+    assertEquals("서울 중구 다산로 265", actuals.get(0).getRoadAddress());
+    assertEquals(ProviderType.KAKAO, actuals.get(0).getProviderType());
+    assertEquals(37.5, actuals.get(0).getLocation().getLatitude());
+    assertEquals(127.0, actuals.get(0).getLocation().getLongitude());
+  }
+
+  @Test
+  @DisplayName("카카오 응답 변환 - 응답 상태가 실패일 경우, 예외 발생")
+  public void decodeKakao_2() {
+    var request = Request.create(HttpMethod.GET, "https://dapi.kakao.com/v2/local/search/keyword.json", Map.of(), null, StandardCharsets.UTF_8, null);
+    var response = Response.builder().status(429).reason("Too Many Requests").request(request).headers(Map.of()).body("{}", StandardCharsets.UTF_8).build();
+
+    assertThrows(FeignException.TooManyRequests.class, () -> decoder.decodeKakao(response));
+  }
+}
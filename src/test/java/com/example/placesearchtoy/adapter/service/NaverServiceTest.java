@@ -0,0 +1,130 @@
+package com.example.placesearchtoy.adapter.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.placesearchtoy.adapter.client.NaverAsyncClient;
+import com.example.placesearchtoy.adapter.client.NaverClient;
+import com.example.placesearchtoy.adapter.decoder.PlaceResponseDecoder;
+import com.example.placesearchtoy.adapter.model.SearchLocalResponse;
+import com.example.placesearchtoy.adapter.support.ProviderLatencyRecorder;
+import com.example.placesearchtoy.adapter.support.ProviderQuotaTracker;
+import com.example.placesearchtoy.adapter.support.ProviderTimeoutController;
+import com.example.placesearchtoy.adapter.support.RequestHedger;
+import com.example.placesearchtoy.application.model.type.ProviderType;
+import feign.Request;
+import feign.Response;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Mono;
+
+@ExtendWith(MockitoExtension.class)
+public class NaverServiceTest {
+
+  @Mock
+  private NaverClient client;
+
+  @Mock
+  private RequestHedger requestHedger;
+
+  @Mock
+  private ProviderTimeoutController timeoutController;
+
+  @Mock
+  private ProviderQuotaTracker quotaTracker;
+
+  @Mock
+  private ProviderLatencyRecorder latencyRecorder;
+
+  @Mock
+  private PlaceResponseDecoder decoder;
+
+  @Mock
+  private NaverAsyncClient asyncClient;
+
+  @InjectMocks
+  private NaverService naverService;
+
+  private final String query = "떡볶이";
+
+  private final Request.Options options = new Request.Options(1, TimeUnit.SECONDS, 1, TimeUnit.SECONDS, true);
+
+  @Test
+  @DisplayName("네이버 지역 검색 - 최대 개수 이하를 요청할 경우, 요청한 개수로 API 호출")
+  public void searchLocalItems_1() {
+    callThroughHedger();
+    when(client.searchLocals(query, 3, options)).thenReturn(new SearchLocalResponse());
+
+    naverService.searchLocalItems(query, 3);
+
+    verify(client, times(1)).searchLocals(query, 3, options);
+  }
+
+  @Test
+  @DisplayName("네이버 지역 검색 - 최대 개수보다 많이 요청할 경우, 최대 개수로 API 호출")
+  public void searchLocalItems_2() {
+    callThroughHedger();
+    when(client.searchLocals(query, 5, options)).thenReturn(new SearchLocalResponse());
+
+    naverService.searchLocalItems(query, 15);
+
+    verify(client, times(1)).searchLocals(query, 5, options);
+  }
+
+  @Test
+  @DisplayName("네이버 지역 검색 - 0개를 요청할 경우, API 호출 없이 빈 목록 반환")
+  public void searchLocalItems_3() {
+    var actual = naverService.searchLocalItems(query, 0);
+
+    assertEquals(List.of(), actual);
+    verify(client, never()).searchLocals(anyString(), anyInt(), any());
+  }
+
+  @Test
+  @DisplayName("네이버 지역 검색 - 응답을 장소 목록으로 바로 변환할 경우, 요청한 개수로 API 호출")
+  public void searchLocalPlaces_1() {
+    callThroughHedger();
+    when(decoder.decodeNaver((Response) any())).thenReturn(List.of());
+
+    naverService.searchLocalPlaces(query, 2);
+
+    verify(client, times(1)).searchLocalPlaces(query, 2, options);
+  }
+
+  @Test
+  @DisplayName("네이버 지역 검색 - 논블로킹 호출일 경우, 요청한 개수로 API 호출")
+  public void searchLocalItemsAsync_1() {
+    var responseTimeout = Duration.ofSeconds(1);
+    when(timeoutController.readTimeout(ProviderType.NAVER)).thenReturn(responseTimeout);
+    when(latencyRecorder.timed(eq(ProviderType.NAVER), any())).thenAnswer(invocation -> invocation.getArgument(1));
+    var response = new SearchLocalResponse();
+    ReflectionTestUtils.setField(response, "items", List.of());
+    when(asyncClient.searchLocals(query, 4, responseTimeout)).thenReturn(Mono.just(response));
+
+    var actual = naverService.searchLocalItemsAsync(query, 4).block();
+
+    assertEquals(List.of(), actual);
+    verify(asyncClient, times(1)).searchLocals(query, 4, responseTimeout);
+  }
+
+  private void callThroughHedger() {
+    when(timeoutController.options(ProviderType.NAVER)).thenReturn(options);
+    when(requestHedger.call(eq(ProviderType.NAVER), any())).thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
+  }
+}
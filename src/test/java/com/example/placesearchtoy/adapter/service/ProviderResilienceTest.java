@@ -0,0 +1,225 @@
+package com.example.placesearchtoy.adapter.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.placesearchtoy.adapter.client.KaKaoClient;
+import com.example.placesearchtoy.adapter.client.KakaoAsyncClient;
+import com.example.placesearchtoy.adapter.client.NaverAsyncClient;
+import com.example.placesearchtoy.adapter.client.NaverClient;
+import com.example.placesearchtoy.adapter.decoder.PlaceResponseDecoder;
+import com.example.placesearchtoy.adapter.model.SearchKeywordResponse;
+import com.example.placesearchtoy.adapter.model.SearchLocalResponse;
+import com.example.placesearchtoy.adapter.provider.KakaoPlaceProvider;
+import com.example.placesearchtoy.adapter.provider.NaverPlaceProvider;
+import com.example.placesearchtoy.adapter.support.ProviderLatencyRecorder;
+import com.example.placesearchtoy.adapter.support.ProviderQuotaTracker;
+import com.example.placesearchtoy.adapter.support.ProviderTimeoutController;
+import com.example.placesearchtoy.adapter.support.RequestHedger;
+import com.example.placesearchtoy.application.cache.PlaceCache;
+import com.example.placesearchtoy.application.dto.PlaceDto;
+import com.example.placesearchtoy.application.mapper.PlaceMapper;
+import com.example.placesearchtoy.application.model.type.ProviderType;
+import com.example.placesearchtoy.application.service.SearchQueryService;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.bulkhead.autoconfigure.BulkheadAutoConfiguration;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.circuitbreaker.autoconfigure.CircuitBreakerAutoConfiguration;
+import io.github.resilience4j.ratelimiter.autoconfigure.RateLimiterAutoConfiguration;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.aop.AopAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * 설정된 Resilience4j 인스턴스(naver, kakao)가 검색 API 호출에 적용되는지 확인한다.
+ * 레지스트리의 인스턴스 상태로 확인하므로 어노테이션의 인스턴스 이름이 다르거나 AOP가 적용되지 않으면 실패한다.
+ * 테스트 사이의 호출이 초당 호출 수 제한에 걸리지 않도록 초당 호출 수만 늘린다.
+ */
+@ActiveProfiles("test")
+@SpringBootTest(
+    classes = {NaverService.class, KakaoService.class, NaverPlaceProvider.class, KakaoPlaceProvider.class, SearchQueryService.class,
+        ProviderResilienceTest.ExecutorConfiguration.class},
+    properties = {"search.cache.enabled=false", "search.coalescing.enabled=false", "search.decoding.streaming=false",
+        "resilience4j.ratelimiter.instances.naver.limit-for-period=100", "resilience4j.ratelimiter.instances.kakao.limit-for-period=100"})
+@ImportAutoConfiguration({AopAutoConfiguration.class, CircuitBreakerAutoConfiguration.class, RateLimiterAutoConfiguration.class,
+    BulkheadAutoConfiguration.class})
+public class ProviderResilienceTest {
+
+  @Autowired
+  private NaverService naverService;
+
+  @Autowired
+  private KakaoService kakaoService;
+
+  @Autowired
+  private SearchQueryService searchQueryService;
+
+  @Autowired
+  private CircuitBreakerRegistry circuitBreakerRegistry;
+
+  @Autowired
+  private BulkheadRegistry bulkheadRegistry;
+
+  @MockBean
+  private NaverClient naverClient;
+
+  @MockBean
+  private KaKaoClient kakaoClient;
+
+  @MockBean
+  private RequestHedger requestHedger;
+
+  @MockBean
+  private ProviderTimeoutController timeoutController;
+
+  @MockBean
+  private ProviderQuotaTracker quotaTracker;
+
+  @MockBean
+  private ProviderLatencyRecorder latencyRecorder;
+
+  @MockBean
+  private PlaceResponseDecoder decoder;
+
+  @MockBean
+  private NaverAsyncClient naverAsyncClient;
+
+  @MockBean
+  private KakaoAsyncClient kakaoAsyncClient;
+
+  @MockBean
+  private PlaceMapper mapper;
+
+  @MockBean
+  private PlaceCache placeCache;
+
+  private final String query = "떡볶이";
+
+  private final RuntimeException testRuntimeException = new RuntimeException("ERROR");
+
+  @BeforeEach
+  public void setUp() {
+    when(requestHedger.call(any(), any())).thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
+  }
+
+  @AfterEach
+  public void tearDown() {
+    circuitBreakerRegistry.circuitBreaker("naver").reset();
+    circuitBreakerRegistry.circuitBreaker("kakao").reset();
+  }
+
+  @Test
+  @DisplayName("네이버 지역 검색 - 최소 호출 수 이상 실패할 경우, 서킷이 열려 API를 호출하지 않고 카카오 장소 목록으로 대체")
+  public void circuitBreaker_1() {
+    when(naverClient.searchLocals(anyString(), anyInt(), any())).thenThrow(testRuntimeException);
+    var circuitBreaker = circuitBreakerRegistry.circuitBreaker("naver");
+    var minimumNumberOfCalls = circuitBreaker.getCircuitBreakerConfig().getMinimumNumberOfCalls();
+
+    for (int i = 0; i < minimumNumberOfCalls; i++) {
+      assertThrows(RuntimeException.class, () -> naverService.searchLocalItems(query, 5));
+    }
+
+    assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+    assertThrows(CallNotPermittedException.class, () -> naverService.searchLocalItems(query, 5));
+
+    var kakaoPlace = kakaoPlace();
+    var actuals = searchQueryService.searchPlaces(query);
+
+    assertEquals(List.of(kakaoPlace), actuals);
+    verify(naverClient, times(minimumNumberOfCalls)).searchLocals(anyString(), anyInt(), any());
+  }
+
+  @Test
+  @DisplayName("카카오 키워드 장소 검색 - 동시 호출 수가 가득 찬 경우, API를 호출하지 않고 네이버 장소 목록으로 대체")
+  public void bulkhead_1() {
+    var bulkhead = bulkheadRegistry.bulkhead("kakao");
+    var maxConcurrentCalls = bulkhead.getBulkheadConfig().getMaxConcurrentCalls();
+    for (int i = 0; i < maxConcurrentCalls; i++) {
+      assertTrue(bulkhead.tryAcquirePermission());
+    }
+
+    try {
+      assertThrows(BulkheadFullException.class, () -> kakaoService.searchKeywordDocuments(query, 10));
+
+      var naverPlace = naverPlace();
+      var actuals = searchQueryService.searchPlaces(query);
+
+      assertEquals(List.of(naverPlace), actuals);
+      verify(kakaoClient, never()).searchKeywordLocal(anyString(), anyInt(), any());
+      assertEquals(CircuitBreaker.State.CLOSED, circuitBreakerRegistry.circuitBreaker("kakao").getState());
+    } finally {
+      for (int i = 0; i < maxConcurrentCalls; i++) {
+        bulkhead.onComplete();
+      }
+    }
+  }
+
+  private PlaceDto kakaoPlace() {
+    var response = new SearchKeywordResponse();
+    ReflectionTestUtils.setField(response, "documents", List.of());
+    when(kakaoClient.searchKeywordLocal(anyString(), anyInt(), any())).thenReturn(response);
+
+    var place = place("동대문엽기떡볶이 동대문본점", "서울 중구 다산로 265 럭키프라자", ProviderType.KAKAO);
+    when(mapper.documentsToPlaceDtos(any(), eq(ProviderType.KAKAO))).thenReturn(List.of(place));
+    return place;
+  }
+
+  private PlaceDto naverPlace() {
+    var response = new SearchLocalResponse();
+    ReflectionTestUtils.setField(response, "items", List.of());
+    when(naverClient.searchLocals(anyString(), anyInt(), any())).thenReturn(response);
+
+    var place = place("호랑이분식 서현본점", "경기 성남시 분당구 서현로 204", ProviderType.NAVER);
+    when(mapper.itemsToPlaceDtos(any(), eq(ProviderType.NAVER))).thenReturn(List.of(place));
+    return place;
+  }
+
+  private PlaceDto place(String name, String roadAddress, ProviderType providerType) {
+    var place = new PlaceDto();
+    place.setName(name);
+    place.setRoadAddress(roadAddress);
+    place.setProviderType(providerType);
+    return place;
+  }
+
+  @TestConfiguration
+  static class ExecutorConfiguration {
+
+    @Bean
+    public Executor providerExecutor() {
+      return Runnable::run;
+    }
+
+    @Bean
+    public MeterRegistry meterRegistry() {
+      return new SimpleMeterRegistry();
+    }
+  }
+}
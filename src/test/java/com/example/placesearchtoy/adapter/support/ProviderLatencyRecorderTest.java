@@ -0,0 +1,72 @@
+package com.example.placesearchtoy.adapter.support;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.placesearchtoy.application.model.type.ProviderType;
+import io.netty.handler.timeout.ReadTimeoutException;
+import java.net.SocketTimeoutException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import reactor.core.publisher.Mono;
+
+public class ProviderLatencyRecorderTest {
+
+  private final ProviderLatencyRecorder latencyRecorder = new ProviderLatencyRecorder();
+
+  @Test
+  @DisplayName("응답 시간 기록 요청 - 요청이 성공할 경우, 구독 시점부터 응답까지의 시간 기록")
+  public void timed_1() {
+    var request = latencyRecorder.timed(ProviderType.NAVER, Mono.delay(Duration.ofMillis(100)).thenReturn("떡볶이"));
+
+    assertEquals(Optional.empty(), latencyRecorder.percentile(ProviderType.NAVER, 100, 1));
+    assertEquals("떡볶이", request.block());
+
+    var actual = latencyRecorder.percentile(ProviderType.NAVER, 100, 1);
+    assertTrue(actual.isPresent());
+    assertTrue(actual.get().compareTo(Duration.ofMillis(100)) >= 0);
+    assertEquals(Optional.empty(), latencyRecorder.percentile(ProviderType.KAKAO, 100, 1));
+  }
+
+  @Test
+  @DisplayName("응답 시간 기록 요청 - 제한 시간 초과로 실패할 경우, 실패까지의 시간 기록")
+  public void timed_2() {
+    var readTimeout = new WebClientRequestException(ReadTimeoutException.INSTANCE, HttpMethod.GET, URI.create("http://localhost"), new HttpHeaders());
+    var socketTimeout = new RuntimeException(new SocketTimeoutException("Read timed out"));
+
+    assertThrows(WebClientRequestException.class, () -> latencyRecorder.timed(ProviderType.KAKAO, Mono.error(readTimeout)).block());
+    assertThrows(RuntimeException.class, () -> latencyRecorder.timed(ProviderType.KAKAO, Mono.error(socketTimeout)).block());
+
+    assertTrue(latencyRecorder.percentile(ProviderType.KAKAO, 100, 2).isPresent());
+  }
+
+  @Test
+  @DisplayName("응답 시간 기록 요청 - 제한 시간 초과가 아닌 오류로 실패할 경우, 기록하지 않음")
+  public void timed_3() {
+    var request = latencyRecorder.timed(ProviderType.NAVER, Mono.error(new RuntimeException("ERROR")));
+
+    assertThrows(RuntimeException.class, request::block);
+
+    assertEquals(Optional.empty(), latencyRecorder.percentile(ProviderType.NAVER, 100, 1));
+  }
+
+  @Test
+  @DisplayName("응답 시간 기록 요청 - 만든 뒤 늦게 구독할 경우, 구독 전 대기 시간은 기록하지 않음")
+  public void timed_4() throws InterruptedException {
+    var request = latencyRecorder.timed(ProviderType.NAVER, Mono.just("떡볶이"));
+
+    Thread.sleep(200);
+    request.block();
+
+    var actual = latencyRecorder.percentile(ProviderType.NAVER, 100, 1);
+    assertTrue(actual.isPresent());
+    assertTrue(actual.get().compareTo(Duration.ofMillis(200)) < 0);
+  }
+}
@@ -0,0 +1,58 @@
+package com.example.placesearchtoy.adapter.support;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.example.placesearchtoy.application.model.type.ProviderType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+public class ProviderQuotaTrackerTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  private final ZoneId zone = ZoneId.of("Asia/Seoul");
+
+  private ProviderQuotaTracker quotaTracker;
+
+  @BeforeEach
+  public void setUp() {
+    quotaTracker = new ProviderQuotaTracker(meterRegistry);
+    ReflectionTestUtils.setField(quotaTracker, "naverDailyBudget", 2L);
+    ReflectionTestUtils.setField(quotaTracker, "kakaoDailyBudget", 5L);
+    ReflectionTestUtils.setField(quotaTracker, "clock", Clock.fixed(Instant.parse("2022-07-01T14:59:00Z"), zone));
+    quotaTracker.post();
+  }
+
+  @Test
+  @DisplayName("호출량 사용 - 일일 호출 한도를 초과할 경우, 예외 발생")
+  public void acquire_1() {
+    quotaTracker.acquire(ProviderType.NAVER);
+    quotaTracker.acquire(ProviderType.NAVER);
+
+    assertThrows(ProviderQuotaExceededException.class, () -> quotaTracker.acquire(ProviderType.NAVER));
+    assertEquals(2, quotaTracker.getUsed(ProviderType.NAVER));
+    assertEquals(0, quotaTracker.getRemaining(ProviderType.NAVER));
+    assertEquals(5, quotaTracker.getRemaining(ProviderType.KAKAO));
+    assertEquals(1, meterRegistry.get("search.provider.quota.rejected").tag("provider", "naver").counter().count());
+  }
+
+  @Test
+  @DisplayName("호출량 사용 - 한국 시간으로 날짜가 바뀔 경우, 호출량 초기화")
+  public void acquire_2() {
+    quotaTracker.acquire(ProviderType.NAVER);
+    quotaTracker.acquire(ProviderType.NAVER);
+    ReflectionTestUtils.setField(quotaTracker, "clock", Clock.fixed(Instant.parse("2022-07-01T15:00:00Z"), zone));
+
+    quotaTracker.acquire(ProviderType.NAVER);
+
+    assertEquals(1, quotaTracker.getUsed(ProviderType.NAVER));
+    assertEquals(1.0, meterRegistry.get("search.provider.quota.remaining").tag("provider", "naver").gauge().value());
+  }
+}
@@ -0,0 +1,89 @@
+package com.example.placesearchtoy.adapter.support;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import com.example.placesearchtoy.application.model.type.ProviderType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+public class ProviderTimeoutControllerTest {
+
+  private final ProviderLatencyRecorder latencyRecorder = new ProviderLatencyRecorder();
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  private ProviderTimeoutController timeoutController;
+
+  @BeforeEach
+  public void setUp() {
+    timeoutController = new ProviderTimeoutController(latencyRecorder, meterRegistry);
+    ReflectionTestUtils.setField(timeoutController, "percentile", 99.0);
+    ReflectionTestUtils.setField(timeoutController, "margin", Duration.ofMillis(200));
+    ReflectionTestUtils.setField(timeoutController, "floor", Duration.ofMillis(300));
+    ReflectionTestUtils.setField(timeoutController, "ceiling", Duration.ofSeconds(3));
+    ReflectionTestUtils.setField(timeoutController, "minSamples", 20);
+    ReflectionTestUtils.setField(timeoutController, "connectTimeout", Duration.ofSeconds(1));
+  }
+
+  @Test
+  @DisplayName("제한 시간 계산 - 응답 시간 기록이 부족할 경우, 최대 제한 시간 사용")
+  public void readTimeout_1() {
+    record(ProviderType.NAVER, 10, Duration.ofMillis(100));
+
+    assertEquals(Duration.ofSeconds(3), timeoutController.readTimeout(ProviderType.NAVER));
+  }
+
+  @Test
+  @DisplayName("제한 시간 계산 - 응답 시간 기록이 충분할 경우, 백분위 값에 여유 시간을 더함")
+  public void readTimeout_2() {
+    record(ProviderType.NAVER, 99, Duration.ofMillis(400));
+    record(ProviderType.NAVER, 1, Duration.ofMillis(900));
+
+    assertEquals(Duration.ofMillis(600), timeoutController.readTimeout(ProviderType.NAVER));
+    assertEquals(Duration.ofSeconds(3), timeoutController.readTimeout(ProviderType.KAKAO));
+  }
+
+  @Test
+  @DisplayName("제한 시간 계산 - 계산 값이 범위를 벗어날 경우, 최소/최대 제한 시간 사용")
+  public void readTimeout_3() {
+    record(ProviderType.NAVER, 20, Duration.ofMillis(10));
+    record(ProviderType.KAKAO, 20, Duration.ofSeconds(5));
+
+    assertEquals(Duration.ofMillis(300), timeoutController.readTimeout(ProviderType.NAVER));
+    assertEquals(Duration.ofSeconds(3), timeoutController.readTimeout(ProviderType.KAKAO));
+  }
+
+  @Test
+  @DisplayName("요청 옵션 조회 - 계산한 제한 시간을 응답 제한 시간으로 사용")
+  public void options_1() {
+    record(ProviderType.KAKAO, 100, Duration.ofMillis(400));
+
+    var options = timeoutController.options(ProviderType.KAKAO);
+
+    assertEquals(600, options.readTimeoutMillis());
+    assertEquals(1000, options.connectTimeoutMillis());
+  }
+
+  @Test
+  @DisplayName("제한 시간 지표 등록 - 실제 검색 API만 등록하고 NOT_DEFINED는 등록하지 않음")
+  public void post_1() {
+    timeoutController.post();
+
+    assertNotNull(meterRegistry.find("search.provider.timeout").tag("provider", "kakao").gauge());
+    assertNotNull(meterRegistry.find("search.provider.timeout").tag("provider", "naver").gauge());
+    assertNull(meterRegistry.find("search.provider.timeout").tag("provider", "not_defined").gauge());
+    assertEquals(3000, meterRegistry.find("search.provider.timeout").tag("provider", "kakao").gauge().value());
+  }
+
+  private void record(ProviderType providerType, int count, Duration latency) {
+    for (int i = 0; i < count; i++) {
+      latencyRecorder.record(providerType, latency.toNanos());
+    }
+  }
+}
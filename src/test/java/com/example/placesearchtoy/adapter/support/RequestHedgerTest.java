@@ -0,0 +1,223 @@
+package com.example.placesearchtoy.adapter.support;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.placesearchtoy.application.model.type.ProviderType;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ConcurrentTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+public class RequestHedgerTest {
+
+  private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+  private final ProviderLatencyRecorder latencyRecorder = new ProviderLatencyRecorder();
+
+  private final AtomicInteger callCount = new AtomicInteger();
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  private final BulkheadRegistry bulkheadRegistry = BulkheadRegistry.of(BulkheadConfig.custom().maxConcurrentCalls(1).build());
+
+  private RequestHedger requestHedger;
+
+  @BeforeEach
+  public void setUp() {
+    requestHedger = requestHedger(executor);
+  }
+
+  private RequestHedger requestHedger(ExecutorService hedgeExecutor) {
+    var requestHedger = new RequestHedger(latencyRecorder, meterRegistry, new ConcurrentTaskExecutor(hedgeExecutor), bulkheadRegistry,
+        RateLimiterRegistry.ofDefaults());
+    ReflectionTestUtils.setField(requestHedger, "enabled", true);
+    ReflectionTestUtils.setField(requestHedger, "delayPercentile", 95.0);
+    ReflectionTestUtils.setField(requestHedger, "minSamples", 20);
+    ReflectionTestUtils.setField(requestHedger, "budgetRatio", 1.0);
+    requestHedger.post();
+    return requestHedger;
+  }
+
+  @AfterEach
+  public void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  @DisplayName("헤지 요청 - 응답 시간 기록이 부족할 경우, 호출한 스레드에서 한 번만 호출")
+  public void call_1() {
+    var caller = Thread.currentThread();
+
+    var result = requestHedger.call(ProviderType.NAVER, () -> {
+      callCount.incrementAndGet();
+      return Thread.currentThread();
+    });
+
+    assertEquals(caller, result);
+    assertEquals(1, callCount.get());
+    assertTrue(latencyRecorder.percentile(ProviderType.NAVER, 50, 1).isPresent());
+  }
+
+  @Test
+  @DisplayName("헤지 요청 - 첫 요청이 늦어질 경우, 헤지 요청 결과를 반환하고 첫 요청 취소")
+  public void call_2() throws Exception {
+    recordFastLatencies();
+    var cancelled = new CountDownLatch(1);
+
+    var result = requestHedger.call(ProviderType.NAVER, () -> {
+      if (callCount.incrementAndGet() == 1) {
+        try {
+          new CountDownLatch(1).await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+          cancelled.countDown();
+        }
+        return "primary";
+      }
+      return "hedge";
+    });
+
+    assertEquals("hedge", result);
+    assertEquals(2, callCount.get());
+    assertTrue(cancelled.await(5, TimeUnit.SECONDS));
+  }
+
+  @Test
+  @DisplayName("헤지 요청 - 추가 요청 예산이 없을 경우, 헤지 요청 없이 호출한 스레드에서 첫 요청 결과 반환")
+  public void call_3() {
+    recordFastLatencies();
+    ReflectionTestUtils.setField(requestHedger, "budgetRatio", 0.0);
+    var caller = Thread.currentThread();
+
+    var result = requestHedger.call(ProviderType.NAVER, () -> {
+      callCount.incrementAndGet();
+      return Thread.currentThread();
+    });
+
+    assertEquals(caller, result);
+    assertEquals(1, callCount.get());
+  }
+
+  @Test
+  @DisplayName("헤지 요청 - 헤지 요청이 실패할 경우, 첫 요청 결과 반환")
+  public void call_4() {
+    recordFastLatencies();
+    var hedgeFailed = new CountDownLatch(1);
+
+    var result = requestHedger.call(ProviderType.NAVER, () -> {
+      if (callCount.incrementAndGet() == 1) {
+        await(hedgeFailed);
+        return "primary";
+      }
+      hedgeFailed.countDown();
+      throw new IllegalStateException("hedge fail");
+    });
+
+    assertEquals("primary", result);
+    assertEquals(2, callCount.get());
+  }
+
+  @Test
+  @DisplayName("헤지 요청 - 검색 API 동시 호출 수가 가득 찬 경우, 헤지 요청은 API를 호출하지 않고 첫 요청 결과 반환")
+  public void call_5() {
+    recordFastLatencies();
+    var bulkhead = bulkheadRegistry.bulkhead("naver");
+    assertTrue(bulkhead.tryAcquirePermission());
+    var hedgeRejected = new CountDownLatch(1);
+    bulkhead.getEventPublisher().onCallRejected(event -> hedgeRejected.countDown());
+
+    try {
+      var result = requestHedger.call(ProviderType.NAVER, () -> {
+        callCount.incrementAndGet();
+        await(hedgeRejected);
+        return "primary";
+      });
+
+      assertEquals("primary", result);
+      assertEquals(1, callCount.get());
+      assertEquals(0, hedgeRejected.getCount());
+    } finally {
+      bulkhead.onComplete();
+    }
+  }
+
+  @Test
+  @DisplayName("헤지 요청 - 실행기가 가득 차 헤지 요청이 거절될 경우, 예산을 돌려받고 첫 요청 결과 반환")
+  public void call_6() {
+    recordFastLatencies();
+    var singleExecutor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new SynchronousQueue<>(), new ThreadPoolExecutor.AbortPolicy());
+    requestHedger = requestHedger(singleExecutor);
+
+    try {
+      var result = requestHedger.call(ProviderType.NAVER, () -> {
+        callCount.incrementAndGet();
+        await(new CountDownLatch(1), 100);
+        return "primary";
+      });
+
+      assertEquals("primary", result);
+      assertEquals(1, callCount.get());
+      assertEquals(1.0, ReflectionTestUtils.getField(requestHedger, "budget"));
+      assertEquals(1, meterRegistry.get("search.provider.hedge").tag("result", "rejected").counter().count());
+      assertEquals(0, meterRegistry.get("search.provider.hedge").tag("result", "sent").counter().count());
+    } finally {
+      singleExecutor.shutdownNow();
+    }
+  }
+
+  @Test
+  @DisplayName("헤지 요청 - 실행기가 가득 차 첫 요청이 거절될 경우, 호출한 스레드에서 요청")
+  public void call_7() {
+    recordFastLatencies();
+    var fullExecutor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new SynchronousQueue<>(), new ThreadPoolExecutor.AbortPolicy());
+    var blocker = new CountDownLatch(1);
+    fullExecutor.execute(() -> await(blocker));
+    requestHedger = requestHedger(fullExecutor);
+    var caller = Thread.currentThread();
+
+    try {
+      var result = requestHedger.call(ProviderType.NAVER, () -> {
+        callCount.incrementAndGet();
+        return Thread.currentThread();
+      });
+
+      assertEquals(caller, result);
+      assertEquals(1, callCount.get());
+      assertEquals(1, meterRegistry.get("search.provider.hedge").tag("result", "rejected").counter().count());
+    } finally {
+      blocker.countDown();
+      fullExecutor.shutdownNow();
+    }
+  }
+
+  private void recordFastLatencies() {
+    for (int i = 0; i < 20; i++) {
+      latencyRecorder.record(ProviderType.NAVER, TimeUnit.MILLISECONDS.toNanos(1));
+    }
+  }
+
+  private void await(CountDownLatch latch) {
+    await(latch, TimeUnit.SECONDS.toMillis(5));
+  }
+
+  private void await(CountDownLatch latch, long timeoutMillis) {
+    try {
+      latch.await(timeoutMillis, TimeUnit.MILLISECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,237 @@
+package com.example.placesearchtoy.application.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.placesearchtoy.application.dto.PlaceDto;
+import com.example.placesearchtoy.application.model.PlaceSearchResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Mono;
+
+@ExtendWith(MockitoExtension.class)
+public class PlaceCacheTest {
+
+  @Mock
+  private RedisPlaceCache redisPlaceCache;
+
+  private PlaceCache placeCache;
+
+  private final String query = "떡볶이";
+
+  private final List<PlaceDto> places = List.of(new PlaceDto());
+  private final List<PlaceDto> refreshedPlaces = List.of(new PlaceDto(), new PlaceDto());
+
+  private final AtomicInteger loadCount = new AtomicInteger();
+
+  @BeforeEach
+  public void setUp() {
+    placeCache = new PlaceCache(new SimpleMeterRegistry(), redisPlaceCache, Runnable::run);
+    ReflectionTestUtils.setField(placeCache, "maximumSize", 100L);
+    ReflectionTestUtils.setField(placeCache, "expireAfterWrite", Duration.ofMinutes(10));
+    ReflectionTestUtils.setField(placeCache, "refreshAfterWrite", Duration.ofMinutes(1));
+    ReflectionTestUtils.setField(placeCache, "staleWhileRevalidate", true);
+    placeCache.post();
+  }
+
+  @Test
+  @DisplayName("검색어의 장소 목록 조회 - 캐시에 없을 경우, 조회 후 저장하여 다음 요청부터 캐시에서 반환")
+  public void get_1() {
+    Function<String, PlaceSearchResult> loader = key -> {
+      loadCount.incrementAndGet();
+      return PlaceSearchResult.of(places, true);
+    };
+
+    var first = placeCache.get(query, loader);
+    var second = placeCache.get(query, loader);
+
+    assertSame(places, first);
+    assertSame(places, second);
+    assertEquals(1, loadCount.get());
+    assertEquals(1, placeCache.stats().hitCount());
+    assertEquals(1, placeCache.stats().missCount());
+  }
+
+  @Test
+  @DisplayName("검색어의 장소 목록 조회 - 일부 검색 API가 실패한 결과일 경우, 캐시에 저장하지 않음")
+  public void get_2() {
+    Function<String, PlaceSearchResult> loader = key -> {
+      loadCount.incrementAndGet();
+      return PlaceSearchResult.of(places, false);
+    };
+
+    var first = placeCache.get(query, loader);
+    placeCache.get(query, loader);
+
+    assertSame(places, first);
+    assertEquals(2, loadCount.get());
+    assertEquals(0, placeCache.stats().hitCount());
+  }
+
+  @Test
+  @DisplayName("검색어의 장소 목록 조회 - 갱신 주기가 지난 경우, 기존 목록 반환 후 백그라운드에서 갱신")
+  public void get_3() {
+    ReflectionTestUtils.setField(placeCache, "refreshAfterWrite", Duration.ZERO);
+    placeCache.get(query, key -> PlaceSearchResult.of(places, true));
+
+    var stale = placeCache.get(query, key -> PlaceSearchResult.of(refreshedPlaces, true));
+    var refreshed = placeCache.get(query, key -> PlaceSearchResult.of(refreshedPlaces, true));
+
+    assertSame(places, stale);
+    assertSame(refreshedPlaces, refreshed);
+  }
+
+  @Test
+  @DisplayName("검색어의 장소 목록 조회 - 백그라운드 갱신에서 오류 발생 시, 기존 목록 유지")
+  public void get_4() {
+    ReflectionTestUtils.setField(placeCache, "refreshAfterWrite", Duration.ZERO);
+    placeCache.get(query, key -> PlaceSearchResult.of(places, true));
+
+    placeCache.get(query, key -> {
+      throw new RuntimeException("ERROR");
+    });
+    ReflectionTestUtils.setField(placeCache, "refreshAfterWrite", Duration.ofMinutes(1));
+    var actual = placeCache.get(query, key -> PlaceSearchResult.of(refreshedPlaces, true));
+
+    assertSame(places, actual);
+  }
+
+  @Test
+  @DisplayName("검색어의 장소 목록 조회 - 로컬 캐시에 없고 공유 캐시에 있을 경우, 검색 API 조회 없이 공유 캐시 목록 반환")
+  public void get_5() {
+    ReflectionTestUtils.setField(placeCache, "redisEnabled", true);
+    when(redisPlaceCache.get(query)).thenReturn(Optional.of(CachedPlaces.of(places, Duration.ofSeconds(30))));
+
+    var first = placeCache.get(query, key -> {
+      loadCount.incrementAndGet();
+      return PlaceSearchResult.of(refreshedPlaces, true);
+    });
+    var second = placeCache.get(query, key -> PlaceSearchResult.of(refreshedPlaces, true));
+
+    assertSame(places, first);
+    assertSame(places, second);
+    assertEquals(0, loadCount.get());
+
+    verify(redisPlaceCache, times(1)).get(query);
+    verify(redisPlaceCache, times(0)).put(any(), any());
+  }
+
+  @Test
+  @DisplayName("검색어의 장소 목록 조회 - 로컬/공유 캐시 모두 없을 경우, 검색 API 조회 후 두 캐시에 모두 저장")
+  public void get_6() {
+    ReflectionTestUtils.setField(placeCache, "redisEnabled", true);
+    when(redisPlaceCache.get(query)).thenReturn(Optional.empty());
+
+    var actual = placeCache.get(query, key -> PlaceSearchResult.of(places, true));
+
+    assertSame(places, actual);
+
+    verify(redisPlaceCache, times(1)).get(query);
+    verify(redisPlaceCache, times(1)).put(any(), any());
+  }
+
+  @Test
+  @DisplayName("검색어의 장소 목록 조회 - 공유 캐시 목록이 만료 시간보다 오래된 경우, 검색 API 조회")
+  public void get_7() {
+    ReflectionTestUtils.setField(placeCache, "redisEnabled", true);
+    when(redisPlaceCache.get(query)).thenReturn(Optional.of(CachedPlaces.of(places, Duration.ofMinutes(11))));
+
+    var actual = placeCache.get(query, key -> PlaceSearchResult.of(refreshedPlaces, true));
+
+    assertSame(refreshedPlaces, actual);
+
+    verify(redisPlaceCache, times(1)).put(any(), any());
+  }
+
+  @Test
+  @DisplayName("검색어의 장소 목록 조회 - 백그라운드 갱신 중 일부 검색 API가 실패한 경우, 빈 목록으로 교체하지 않고 기존 목록 유지")
+  public void get_8() {
+    ReflectionTestUtils.setField(placeCache, "refreshAfterWrite", Duration.ZERO);
+    placeCache.get(query, key -> PlaceSearchResult.of(places, true));
+
+    placeCache.get(query, key -> PlaceSearchResult.of(List.of(), false));
+    ReflectionTestUtils.setField(placeCache, "refreshAfterWrite", Duration.ofMinutes(1));
+    var actual = placeCache.get(query, key -> PlaceSearchResult.of(refreshedPlaces, true));
+
+    assertSame(places, actual);
+  }
+
+  @Test
+  @DisplayName("검색어의 장소 목록 조회 - stale-while-revalidate 미사용 시, 갱신 주기가 지나면 새로 조회한 목록 반환")
+  public void get_9() {
+    ReflectionTestUtils.setField(placeCache, "staleWhileRevalidate", false);
+    ReflectionTestUtils.setField(placeCache, "refreshAfterWrite", Duration.ZERO);
+    placeCache.get(query, key -> PlaceSearchResult.of(places, true));
+
+    var revalidated = placeCache.get(query, key -> PlaceSearchResult.of(refreshedPlaces, true));
+    var staleIfError = placeCache.get(query, key -> PlaceSearchResult.of(List.of(), false));
+
+    assertSame(refreshedPlaces, revalidated);
+    assertSame(refreshedPlaces, staleIfError);
+  }
+
+  @Test
+  @DisplayName("검색어의 장소 목록 조회 - 논블로킹 조회 시 캐시에 없을 경우, 조회 후 저장하여 다음 요청부터 캐시에서 반환")
+  public void getAsync_1() {
+    Function<String, Mono<PlaceSearchResult>> loader = key -> Mono.fromSupplier(() -> {
+      loadCount.incrementAndGet();
+      return PlaceSearchResult.of(places, true);
+    });
+
+    var first = placeCache.getAsync(query, loader).block();
+    var second = placeCache.getAsync(query, loader).block();
+
+    assertSame(places, first);
+    assertSame(places, second);
+    assertEquals(1, loadCount.get());
+  }
+
+  @Test
+  @DisplayName("검색어의 장소 목록 조회 - 논블로킹 조회 시 공유 캐시에 최신 목록이 있을 경우, 검색 API를 호출하지 않음")
+  public void getAsync_2() {
+    ReflectionTestUtils.setField(placeCache, "redisEnabled", true);
+    when(redisPlaceCache.getAsync(query)).thenReturn(Mono.just(CachedPlaces.of(places)));
+
+    var actual = placeCache.getAsync(query, key -> Mono.fromSupplier(() -> {
+      loadCount.incrementAndGet();
+      return PlaceSearchResult.of(refreshedPlaces, true);
+    })).block();
+
+    assertSame(places, actual);
+    assertEquals(0, loadCount.get());
+  }
+
+  @Test
+  @DisplayName("검색어의 장소 목록 조회 - 논블로킹 조회 시 공유 캐시 저장에 실패할 경우, 저장을 기다린 뒤 조회한 목록 반환")
+  public void getAsync_3() {
+    ReflectionTestUtils.setField(placeCache, "redisEnabled", true);
+    when(redisPlaceCache.getAsync(query)).thenReturn(Mono.empty());
+    var putCount = new AtomicInteger();
+    when(redisPlaceCache.putAsync(eq(query), any())).thenReturn(Mono.defer(() -> {
+      putCount.incrementAndGet();
+      return Mono.error(new IllegalStateException("redis down"));
+    }));
+
+    var actual = placeCache.getAsync(query, key -> Mono.just(PlaceSearchResult.of(places, true))).block();
+
+    assertSame(places, actual);
+    assertEquals(1, putCount.get());
+    assertSame(places, placeCache.getAsync(query, key -> Mono.just(PlaceSearchResult.of(refreshedPlaces, true))).block());
+  }
+}
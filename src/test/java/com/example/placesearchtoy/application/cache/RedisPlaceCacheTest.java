@@ -0,0 +1,124 @@
+package com.example.placesearchtoy.application.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.placesearchtoy.application.dto.PlaceDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.ReactiveValueOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Mono;
+
+@ExtendWith(MockitoExtension.class)
+public class RedisPlaceCacheTest {
+
+  @Mock
+  private RedisTemplate<String, String> redisTemplate;
+
+  @Mock
+  private ValueOperations<String, String> valueOperations;
+
+  @Mock
+  private ReactiveRedisTemplate<String, String> reactiveRedisTemplate;
+
+  @Mock
+  private ReactiveValueOperations<String, String> reactiveValueOperations;
+
+  private RedisPlaceCache redisPlaceCache;
+
+  private final String keyPrefix = "search:places:";
+  private final Duration timeToLive = Duration.ofMinutes(10);
+
+  private final String query = "떡볶이";
+
+  private final RuntimeException testRuntimeException = new RuntimeException("ERROR");
+
+  @BeforeEach
+  public void setUp() {
+    redisPlaceCache = new RedisPlaceCache(redisTemplate, reactiveRedisTemplate, new ObjectMapper(), new SimpleMeterRegistry());
+    ReflectionTestUtils.setField(redisPlaceCache, "keyPrefix", keyPrefix);
+    ReflectionTestUtils.setField(redisPlaceCache, "timeToLive", timeToLive);
+
+    when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    when(reactiveRedisTemplate.opsForValue()).thenReturn(reactiveValueOperations);
+    redisPlaceCache.post();
+  }
+
+  @Test
+  @DisplayName("공유 캐시 저장/조회 - 저장한 장소 목록을 조회하면 동일한 장소 목록 반환")
+  public void putAndGet_1() {
+    var place = new PlaceDto();
+    place.setName("동대문엽기떡볶이 동대문본점");
+    place.setRoadAddress("서울 중구 다산로 265 럭키프라자");
+
+    redisPlaceCache.put(query, CachedPlaces.of(List.of(place)));
+
+    var valueCaptor = ArgumentCaptor.forClass(String.class);
+    verify(valueOperations, times(1)).set(eq(keyPrefix + query), valueCaptor.capture(), eq(timeToLive));
+
+    when(valueOperations.get(keyPrefix + query)).thenReturn(valueCaptor.getValue());
+
+    var actual = redisPlaceCache.get(query);
+
+    assertTrue(actual.isPresent());
+    assertEquals(1, actual.get().getPlaces().size());
+    assertEquals(place.getName(), actual.get().getPlaces().get(0).getName());
+    assertEquals(place.getRoadAddress(), actual.get().getPlaces().get(0).getRoadAddress());
+  }
+
+  @Test
+  @DisplayName("공유 캐시 조회 - 레디스 조회 오류 발생 시, 캐시 미스 처리")
+  public void get_1() {
+    when(valueOperations.get(keyPrefix + query)).thenThrow(testRuntimeException);
+
+    var actual = redisPlaceCache.get(query);
+
+    assertTrue(actual.isEmpty());
+  }
+
+  @Test
+  @DisplayName("공유 캐시 저장/조회 - 논블로킹으로 저장한 장소 목록을 논블로킹으로 조회하면 동일한 장소 목록 반환")
+  public void putAndGetAsync_1() {
+    var place = new PlaceDto();
+    place.setName("동대문엽기떡볶이 동대문본점");
+
+    var valueCaptor = ArgumentCaptor.forClass(String.class);
+    when(reactiveValueOperations.set(eq(keyPrefix + query), valueCaptor.capture(), eq(timeToLive))).thenReturn(Mono.just(true));
+
+    assertEquals(true, redisPlaceCache.putAsync(query, CachedPlaces.of(List.of(place))).block());
+
+    when(reactiveValueOperations.get(keyPrefix + query)).thenReturn(Mono.just(valueCaptor.getValue()));
+
+    var actual = redisPlaceCache.getAsync(query).block();
+
+    assertEquals(1, actual.getPlaces().size());
+    assertEquals(place.getName(), actual.getPlaces().get(0).getName());
+  }
+
+  @Test
+  @DisplayName("공유 캐시 조회 - 논블로킹 레디스 조회 오류 발생 시, 캐시 미스 처리")
+  public void getAsync_1() {
+    when(reactiveValueOperations.get(keyPrefix + query)).thenReturn(Mono.error(testRuntimeException));
+
+    var actual = redisPlaceCache.getAsync(query).blockOptional();
+
+    assertTrue(actual.isEmpty());
+  }
+}
@@ -3,21 +3,26 @@ package com.example.placesearchtoy.application.scheduler;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.Mockito.doNothing;
-import static org.mockito.Mockito.doThrow;
-import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.example.placesearchtoy.application.model.type.KeywordHitsBackend;
+import java.io.IOException;
+import java.net.ServerSocket;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.Set;
+import java.util.ArrayList;
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -25,11 +30,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
-import org.springframework.data.redis.core.ZSetOperations;
-import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.test.util.ReflectionTestUtils;
+import redis.embedded.RedisServer;
 
 @ExtendWith(MockitoExtension.class)
 public class KeywordSchedulerTest {
@@ -37,9 +44,6 @@ public class KeywordSchedulerTest {
   @Mock
   private RedisTemplate<String, String> redisTemplate;
 
-  @Mock
-  private ZSetOperations<String, String> zSetOperations;
-
   @Mock
   private ValueOperations<String, String> valueOperations;
 
@@ -52,16 +56,10 @@ public class KeywordSchedulerTest {
   private final String distributedLockKey = "ranking:distributed-lock:";
 
   private final int accumulateStandardMinute = 10;
+  private final int accumulateTopK = 1000;
   private final Duration defaultTTL = Duration.ofMinutes(15);
   private final DateTimeFormatter suffixFormatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
 
-  private final String keyword = "떡볶이";
-  private final Double score = 4D;
-  private final Double updateScore = 2D;
-
-  private final String secondKeyword = "감자빵";
-  private final Double secondScore = 2D;
-
   private final RuntimeException testRuntimeException = new RuntimeException("ERROR");
 
   @BeforeEach
@@ -70,149 +68,116 @@ public class KeywordSchedulerTest {
     ReflectionTestUtils.setField(keywordScheduler, "accumulateKeyPrefix", accumulateKeyPrefix);
     ReflectionTestUtils.setField(keywordScheduler, "viewKey", viewKey);
     ReflectionTestUtils.setField(keywordScheduler, "distributedLockKey", distributedLockKey);
+    ReflectionTestUtils.setField(keywordScheduler, "backend", KeywordHitsBackend.REDIS);
+    ReflectionTestUtils.setField(keywordScheduler, "accumulateTopK", accumulateTopK);
 
-    when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
     when(redisTemplate.opsForValue()).thenReturn(valueOperations);
     keywordScheduler.post();
   }
 
   @Test
-  @DisplayName("누적 키워드 조회 정보 저장 - 1분 전 누적 정보 조회 오류 발생 시, 로깅 후 종료")
+  @DisplayName("누적 키워드 조회 정보 저장 - 분산락 잠금 실패 시, 누적 정보 생성 없이 종료")
   public void createAccumulateRanking_1() {
-    tryLock_success();
-
-    var key = accumulateKeyPrefix + LocalDateTime.now().minusMinutes(1).format(suffixFormatter);
-    when(zSetOperations.reverseRangeWithScores(key, 0, 30)).thenThrow(testRuntimeException);
+    var key = distributedLockKey + LocalDateTime.now().format(suffixFormatter);
+    when(valueOperations.increment(key)).thenReturn(2L);
+    when(redisTemplate.expire(key, defaultTTL)).thenReturn(true);
 
     keywordScheduler.createAccumulateRanking();
 
-    verify(zSetOperations, times(1)).reverseRangeWithScores(key, 0, 30);
-    verify(zSetOperations, times(0)).rangeWithScores(anyString(), eq(0), eq(-1));
+    verify(redisTemplate, never()).execute(any(RedisScript.class), anyList(), any(), any());
   }
 
   @Test
-  @DisplayName("누적 키워드 조회 정보 저장 - 10분 전 분간 정보 조회 오류 발생 시, 지난 1분간 정보로만 누적 정보 업데이트")
+  @DisplayName("누적 키워드 조회 정보 저장 - 신규 누적 정보 생성, 최근 10분간의 분 단위 키를 한 번의 스크립트 호출로 합산 후 조회 키 변경")
   public void createAccumulateRanking_2() {
     tryLock_success();
 
-    var previousAccumulateKey = accumulateKeyPrefix + LocalDateTime.now().minusMinutes(1).format(suffixFormatter);
-
-    TypedTuple<String> mockTuple = firstTuple();
-    when(zSetOperations.reverseRangeWithScores(previousAccumulateKey, 0, 30)).thenReturn(Set.of(mockTuple));
-
-    var minuteAgoKey = minuteKeyPrefix + LocalDateTime.now().minusMinutes(accumulateStandardMinute).format(suffixFormatter);
-    when(zSetOperations.rangeWithScores(minuteAgoKey, 0, -1)).thenThrow(testRuntimeException);
-
-    var currentAccumulateKey = accumulateKeyPrefix + LocalDateTime.now().format(suffixFormatter);
-    when(zSetOperations.incrementScore(currentAccumulateKey, mockTuple.getValue(), mockTuple.getScore())).thenReturn(score + updateScore);
-
-    doNothing().when(valueOperations).set(viewKey, currentAccumulateKey);
+    var now = LocalDateTime.now();
+    var currentAccumulateKey = accumulateKeyPrefix + now.format(suffixFormatter);
+    List<String> keys = new ArrayList<>(List.of(currentAccumulateKey, viewKey));
+    for (int minute = accumulateStandardMinute - 1; minute >= 0; minute--) {
+      keys.add(minuteKeyPrefix + now.minusMinutes(minute).format(suffixFormatter));
+    }
+    when(redisTemplate.execute(any(RedisScript.class), eq(keys), eq(String.valueOf(accumulateTopK)), eq(String.valueOf(defaultTTL.toSeconds()))))
+        .thenReturn(2L);
 
     keywordScheduler.createAccumulateRanking();
 
-    verify(zSetOperations, times(1)).reverseRangeWithScores(previousAccumulateKey, 0, 30);
-    verify(zSetOperations, times(1)).rangeWithScores(minuteAgoKey, 0, -1);
-    verify(zSetOperations, times(1)).incrementScore(currentAccumulateKey, keyword, updateScore);
-    verify(valueOperations, times(1)).set(viewKey, currentAccumulateKey);
-  }
-
-  private TypedTuple<String> firstTuple() {
-    TypedTuple<String> mockTuple = mock(TypedTuple.class);
-    when(mockTuple.getValue()).thenReturn(keyword);
-    when(mockTuple.getScore()).thenReturn(updateScore);
-
-    return mockTuple;
+    verify(redisTemplate, times(1)).execute(any(RedisScript.class), anyList(), any(), any());
   }
 
   @Test
-  @DisplayName("누적 키워드 조회 정보 저장 - 누적 정보 업데이트에서 오류 발생 시, 에러 로깅 후 다음 정보 업데이트 진행")
+  @DisplayName("누적 키워드 조회 정보 저장 - 스크립트 실행 오류 발생 시, 에러 로깅 후 종료")
   public void createAccumulateRanking_3() {
     tryLock_success();
 
-    var previousAccumulateKey = accumulateKeyPrefix + LocalDateTime.now().minusMinutes(1).format(suffixFormatter);
-
-    TypedTuple<String> mockTuple = firstTuple();
-    TypedTuple<String> mockTuple2 = secondTuple();
-    when(zSetOperations.reverseRangeWithScores(previousAccumulateKey, 0, 30)).thenReturn(Set.of(mockTuple, mockTuple2));
-
-    var minuteAgoKey = minuteKeyPrefix + LocalDateTime.now().minusMinutes(accumulateStandardMinute).format(suffixFormatter);
-    when(zSetOperations.rangeWithScores(minuteAgoKey, 0, -1)).thenReturn(Set.of());
-
-    var currentAccumulateKey = accumulateKeyPrefix + LocalDateTime.now().format(suffixFormatter);
-    when(zSetOperations.incrementScore(currentAccumulateKey, mockTuple.getValue(), mockTuple.getScore())).thenThrow(testRuntimeException);
-    when(zSetOperations.incrementScore(currentAccumulateKey, mockTuple2.getValue(), mockTuple2.getScore())).thenReturn(2D);
-
-    doNothing().when(valueOperations).set(viewKey, currentAccumulateKey);
+    when(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any())).thenThrow(testRuntimeException);
 
     keywordScheduler.createAccumulateRanking();
 
-    verify(zSetOperations, times(1)).reverseRangeWithScores(previousAccumulateKey, 0, 30);
-    verify(zSetOperations, times(1)).rangeWithScores(minuteAgoKey, 0, -1);
-    verify(zSetOperations, times(1)).incrementScore(currentAccumulateKey, keyword, updateScore);
-    verify(valueOperations, times(1)).set(viewKey, currentAccumulateKey);
-
-    verify(mockTuple, times(2)).getValue();
-    verify(mockTuple2, times(2)).getScore();
-  }
-
-  private TypedTuple<String> secondTuple() {
-    TypedTuple<String> mockTuple2 = mock(TypedTuple.class);
-    when(mockTuple2.getValue()).thenReturn(secondKeyword);
-    when(mockTuple2.getScore()).thenReturn(secondScore);
-
-    return mockTuple2;
+    verify(redisTemplate, times(1)).execute(any(RedisScript.class), anyList(), any(), any());
   }
 
   @Test
-  @DisplayName("누적 키워드 조회 정보 저장 - 조회 키 업데이트 실패 시, 에러 로깅 후 종료")
+  @DisplayName("누적 키워드 조회 정보 저장 - 레디스 집계 방식이 아닐 경우, 분산락 잠금 없이 종료")
   public void createAccumulateRanking_4() {
-    tryLock_success();
-
-    var previousAccumulateKey = accumulateKeyPrefix + LocalDateTime.now().minusMinutes(1).format(suffixFormatter);
-
-    TypedTuple<String> mockTuple = firstTuple();
-    when(zSetOperations.reverseRangeWithScores(previousAccumulateKey, 0, 30)).thenReturn(Set.of(mockTuple));
-
-    var minuteAgoKey = minuteKeyPrefix + LocalDateTime.now().minusMinutes(accumulateStandardMinute).format(suffixFormatter);
-    when(zSetOperations.rangeWithScores(minuteAgoKey, 0, -1)).thenReturn(Set.of());
-
-    var currentAccumulateKey = accumulateKeyPrefix + LocalDateTime.now().format(suffixFormatter);
-    when(zSetOperations.incrementScore(currentAccumulateKey, mockTuple.getValue(), mockTuple.getScore())).thenReturn(score + updateScore);
-
-    doThrow(testRuntimeException).when(valueOperations).set(viewKey, currentAccumulateKey);
+    ReflectionTestUtils.setField(keywordScheduler, "backend", KeywordHitsBackend.SLIDING_WINDOW);
 
     keywordScheduler.createAccumulateRanking();
 
-    verify(zSetOperations, times(1)).reverseRangeWithScores(previousAccumulateKey, 0, 30);
-    verify(zSetOperations, times(1)).rangeWithScores(minuteAgoKey, 0, -1);
-    verify(zSetOperations, times(1)).incrementScore(currentAccumulateKey, keyword, updateScore);
-    verify(valueOperations, times(1)).set(viewKey, currentAccumulateKey);
+    verify(valueOperations, never()).increment(anyString());
+    verify(redisTemplate, never()).execute(any(RedisScript.class), anyList(), any(), any());
   }
 
   @Test
-  @DisplayName("누적 키워드 조회 정보 저장 - 신규 누적 정보 생성")
-  public void createAccumulateRanking_5() {
-    tryLock_success();
-
-    var previousAccumulateKey = accumulateKeyPrefix + LocalDateTime.now().minusMinutes(1).format(suffixFormatter);
-
-    TypedTuple<String> mockTuple = firstTuple();
-    when(zSetOperations.reverseRangeWithScores(previousAccumulateKey, 0, 30)).thenReturn(Set.of(mockTuple));
-
-    var minuteAgoKey = minuteKeyPrefix + LocalDateTime.now().minusMinutes(accumulateStandardMinute).format(suffixFormatter);
-    when(zSetOperations.rangeWithScores(minuteAgoKey, 0, -1)).thenReturn(Set.of());
-
-    var currentAccumulateKey = accumulateKeyPrefix + LocalDateTime.now().format(suffixFormatter);
-    when(zSetOperations.incrementScore(currentAccumulateKey, mockTuple.getValue(), mockTuple.getScore())).thenReturn(score + updateScore);
-
-    doNothing().when(valueOperations).set(viewKey, currentAccumulateKey);
-
-    keywordScheduler.createAccumulateRanking();
+  @DisplayName("누적 키워드 조회 정보 저장 - 레디스에서 스크립트 실행 시, 진행 중인 분을 포함한 최근 10분 키만 합산하고 상위 키워드만 남긴 뒤 조회 키 변경")
+  public void createAccumulateRanking_5() throws IOException {
+    var port = freePort();
+    var redisServer = new RedisServer(port);
+    redisServer.start();
+    var connectionFactory = new LettuceConnectionFactory("localhost", port);
+    connectionFactory.afterPropertiesSet();
+    try {
+      var redisTemplate = new StringRedisTemplate(connectionFactory);
+      var scheduler = new KeywordScheduler(redisTemplate);
+      ReflectionTestUtils.setField(scheduler, "minuteKeyPrefix", minuteKeyPrefix);
+      ReflectionTestUtils.setField(scheduler, "accumulateKeyPrefix", accumulateKeyPrefix);
+      ReflectionTestUtils.setField(scheduler, "viewKey", viewKey);
+      ReflectionTestUtils.setField(scheduler, "distributedLockKey", distributedLockKey);
+      ReflectionTestUtils.setField(scheduler, "backend", KeywordHitsBackend.REDIS);
+      ReflectionTestUtils.setField(scheduler, "accumulateTopK", 2);
+      scheduler.post();
+
+      var now = LocalDateTime.now();
+      var zSetOperations = redisTemplate.opsForZSet();
+      zSetOperations.incrementScore(minuteKeyPrefix + now.minusMinutes(accumulateStandardMinute).format(suffixFormatter), "순대", 100);
+      zSetOperations.incrementScore(minuteKeyPrefix + now.minusMinutes(accumulateStandardMinute - 1).format(suffixFormatter), "떡볶이", 1);
+      zSetOperations.incrementScore(minuteKeyPrefix + now.minusMinutes(1).format(suffixFormatter), "떡볶이", 2);
+      zSetOperations.incrementScore(minuteKeyPrefix + now.format(suffixFormatter), "김밥", 5);
+      zSetOperations.incrementScore(minuteKeyPrefix + now.format(suffixFormatter), "라면", 1);
+
+      scheduler.createAccumulateRanking();
+
+      var currentAccumulateKey = accumulateKeyPrefix + now.format(suffixFormatter);
+      assertEquals(currentAccumulateKey, redisTemplate.opsForValue().get(viewKey));
+      assertEquals(2L, zSetOperations.zCard(currentAccumulateKey));
+      assertEquals(5D, zSetOperations.score(currentAccumulateKey, "김밥"));
+      assertEquals(3D, zSetOperations.score(currentAccumulateKey, "떡볶이"));
+      assertNull(zSetOperations.score(currentAccumulateKey, "라면"));
+      assertNull(zSetOperations.score(currentAccumulateKey, "순대"));
+
+      var ttl = redisTemplate.getExpire(currentAccumulateKey);
+      assertTrue(ttl > 0 && ttl <= defaultTTL.toSeconds());
+    } finally {
+      connectionFactory.destroy();
+      redisServer.stop();
+    }
+  }
 
-    verify(zSetOperations, times(1)).reverseRangeWithScores(previousAccumulateKey, 0, 30);
-    verify(zSetOperations, times(1)).rangeWithScores(minuteAgoKey, 0, -1);
-    verify(zSetOperations, times(1)).incrementScore(currentAccumulateKey, keyword, updateScore);
-    verify(valueOperations, times(1)).set(viewKey, currentAccumulateKey);
+  private int freePort() throws IOException {
+    try (var socket = new ServerSocket(0)) {
+      return socket.getLocalPort();
+    }
   }
 
   private void tryLock_success() {
@@ -0,0 +1,150 @@
+package com.example.placesearchtoy.application.scheduler;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.placesearchtoy.application.cache.PlaceCache;
+import com.example.placesearchtoy.application.dto.KeywordDto;
+import com.example.placesearchtoy.application.service.KeywordHitsService;
+import com.example.placesearchtoy.application.service.SearchQueryService;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+public class PlaceCacheWarmerTest {
+
+  @Mock
+  private KeywordHitsService keywordHitsService;
+
+  @Mock
+  private SearchQueryService searchQueryService;
+
+  @Mock
+  private PlaceCache placeCache;
+
+  @InjectMocks
+  private PlaceCacheWarmer placeCacheWarmer;
+
+  private final int topKeywords = 10;
+
+  private final String keyword = "떡볶이";
+  private final String secondKeyword = "감자빵";
+
+  @BeforeEach
+  public void setUp() {
+    Executor directExecutor = Runnable::run;
+    ReflectionTestUtils.setField(placeCacheWarmer, "warmExecutor", directExecutor);
+    ReflectionTestUtils.setField(placeCacheWarmer, "enabled", true);
+    ReflectionTestUtils.setField(placeCacheWarmer, "topKeywords", topKeywords);
+    ReflectionTestUtils.setField(placeCacheWarmer, "maxProviderCallsPerMinute", 60);
+  }
+
+  @Test
+  @DisplayName("인기 키워드 장소 목록 캐시 갱신 - 갱신이 필요한 키워드만 장소 목록 조회")
+  public void warmTopKeywords_1() {
+    when(keywordHitsService.searchTopKeywordHits(topKeywords)).thenReturn(List.of(KeywordDto.of(keyword, 4L), KeywordDto.of(secondKeyword, 2L)));
+    when(placeCache.needsWarming(keyword)).thenReturn(true);
+    when(placeCache.needsWarming(secondKeyword)).thenReturn(false);
+
+    placeCacheWarmer.warmTopKeywords();
+
+    verify(searchQueryService, times(1)).warmPlaces(keyword);
+    verify(searchQueryService, times(0)).warmPlaces(secondKeyword);
+  }
+
+  @Test
+  @DisplayName("인기 키워드 장소 목록 캐시 갱신 - 분당 검색 API 호출 한도를 넘을 경우, 남은 키워드는 갱신하지 않음")
+  public void warmTopKeywords_2() {
+    ReflectionTestUtils.setField(placeCacheWarmer, "maxProviderCallsPerMinute", 2);
+    when(searchQueryService.getProviderCount()).thenReturn(2);
+    when(keywordHitsService.searchTopKeywordHits(topKeywords)).thenReturn(List.of(KeywordDto.of(keyword, 4L), KeywordDto.of(secondKeyword, 2L)));
+    when(placeCache.needsWarming(anyString())).thenReturn(true);
+
+    placeCacheWarmer.warmTopKeywords();
+
+    verify(searchQueryService, times(1)).warmPlaces(keyword);
+    verify(searchQueryService, times(0)).warmPlaces(secondKeyword);
+  }
+
+  @Test
+  @DisplayName("인기 키워드 장소 목록 캐시 갱신 - 갱신 중 오류 발생 시, 에러 로깅 후 다음 키워드 갱신 진행")
+  public void warmTopKeywords_3() {
+    when(keywordHitsService.searchTopKeywordHits(topKeywords)).thenReturn(List.of(KeywordDto.of(keyword, 4L), KeywordDto.of(secondKeyword, 2L)));
+    when(placeCache.needsWarming(anyString())).thenReturn(true);
+    doThrow(new RuntimeException("ERROR")).when(searchQueryService).warmPlaces(keyword);
+
+    placeCacheWarmer.warmTopKeywords();
+
+    verify(searchQueryService, times(1)).warmPlaces(keyword);
+    verify(searchQueryService, times(1)).warmPlaces(secondKeyword);
+  }
+
+  @Test
+  @DisplayName("인기 키워드 장소 목록 캐시 갱신 - 사용하지 않을 경우, 종료")
+  public void warmTopKeywords_4() {
+    ReflectionTestUtils.setField(placeCacheWarmer, "enabled", false);
+
+    placeCacheWarmer.warmTopKeywords();
+
+    verify(keywordHitsService, times(0)).searchTopKeywordHits(anyInt());
+  }
+
+  @Test
+  @DisplayName("인기 키워드 장소 목록 캐시 갱신 - 실행기가 가득 차 갱신이 거절될 경우, 차감한 호출 한도를 돌려주고 다음 키워드 갱신 진행")
+  public void warmTopKeywords_5() {
+    var submitted = new AtomicInteger();
+    Executor rejectingFirstExecutor = command -> {
+      if (submitted.incrementAndGet() == 1) {
+        throw new RejectedExecutionException("cache warm executor full");
+      }
+      command.run();
+    };
+    ReflectionTestUtils.setField(placeCacheWarmer, "warmExecutor", rejectingFirstExecutor);
+    ReflectionTestUtils.setField(placeCacheWarmer, "maxProviderCallsPerMinute", 2);
+    when(searchQueryService.getProviderCount()).thenReturn(2);
+    when(keywordHitsService.searchTopKeywordHits(topKeywords)).thenReturn(List.of(KeywordDto.of(keyword, 4L), KeywordDto.of(secondKeyword, 2L)));
+    when(placeCache.needsWarming(anyString())).thenReturn(true);
+
+    placeCacheWarmer.warmTopKeywords();
+
+    verify(searchQueryService, times(0)).warmPlaces(keyword);
+    verify(searchQueryService, times(1)).warmPlaces(secondKeyword);
+    assertFalse(placeCacheWarmer.tryAcquireProviderCalls(1));
+  }
+
+  @Test
+  @DisplayName("분 단위 검색 API 호출 한도 차감 - 한도 이내일 경우 true, 초과할 경우 false 반환")
+  public void tryAcquireProviderCalls_1() {
+    ReflectionTestUtils.setField(placeCacheWarmer, "maxProviderCallsPerMinute", 3);
+
+    assertTrue(placeCacheWarmer.tryAcquireProviderCalls(2));
+    assertFalse(placeCacheWarmer.tryAcquireProviderCalls(2));
+  }
+
+  @Test
+  @DisplayName("분 단위 검색 API 호출 한도 반환 - 반환한 만큼 다시 차감 가능")
+  public void releaseProviderCalls_1() {
+    ReflectionTestUtils.setField(placeCacheWarmer, "maxProviderCallsPerMinute", 3);
+
+    assertTrue(placeCacheWarmer.tryAcquireProviderCalls(2));
+    placeCacheWarmer.releaseProviderCalls(2);
+
+    assertTrue(placeCacheWarmer.tryAcquireProviderCalls(3));
+  }
+}
@@ -0,0 +1,108 @@
+package com.example.placesearchtoy.application.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.example.placesearchtoy.application.model.KeywordHitEvent;
+import com.example.placesearchtoy.application.model.type.KeywordHitOverflowPolicy;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CountDownLatch;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+public class KeywordHitPipelineTest {
+
+  @Mock
+  private KeywordHitsService keywordHitsService;
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  private KeywordHitPipeline keywordHitPipeline;
+
+  private final CountDownLatch consuming = new CountDownLatch(1);
+  private final CountDownLatch release = new CountDownLatch(1);
+
+  @BeforeEach
+  public void setUp() {
+    keywordHitPipeline = new KeywordHitPipeline(keywordHitsService, meterRegistry);
+    ReflectionTestUtils.setField(keywordHitPipeline, "capacity", 2);
+    ReflectionTestUtils.setField(keywordHitPipeline, "consumers", 1);
+    ReflectionTestUtils.setField(keywordHitPipeline, "batchSize", 256);
+    ReflectionTestUtils.setField(keywordHitPipeline, "coalesceMaxKeywords", 1);
+
+    doAnswer(invocation -> {
+      consuming.countDown();
+      release.await();
+      return null;
+    }).when(keywordHitsService).incrementKeywordHits("떡볶이", 1);
+  }
+
+  @AfterEach
+  public void tearDown() {
+    release.countDown();
+    keywordHitPipeline.shutdown();
+  }
+
+  @Test
+  @DisplayName("키워드 검색 횟수 대기열에 추가 - 버리는 방식에서 대기열이 가득 찬 경우, 버린 횟수 기록 후 나머지만 반영")
+  public void offer_1() throws InterruptedException {
+    ReflectionTestUtils.setField(keywordHitPipeline, "overflowPolicy", KeywordHitOverflowPolicy.DROP);
+    keywordHitPipeline.post();
+
+    keywordHitPipeline.onKeywordHit(KeywordHitEvent.of("떡볶이"));
+    consuming.await();
+    keywordHitPipeline.offer("순대");
+    keywordHitPipeline.offer("튀김");
+    keywordHitPipeline.offer("김밥");
+    keywordHitPipeline.offer("  ");
+
+    assertEquals(2, meterRegistry.get("keyword.hits.queue.depth").gauge().value());
+    assertEquals(1, meterRegistry.get("keyword.hits.queue.overflow").tag("result", "dropped").counter().count());
+
+    release.countDown();
+    keywordHitPipeline.shutdown();
+
+    verify(keywordHitsService, times(1)).incrementKeywordHits("순대", 1);
+    verify(keywordHitsService, times(1)).incrementKeywordHits("튀김", 1);
+    verify(keywordHitsService, never()).incrementKeywordHits(eq("김밥"), anyLong());
+  }
+
+  @Test
+  @DisplayName("키워드 검색 횟수 대기열에 추가 - 합치는 방식에서 대기열이 가득 찬 경우, 키워드별로 합쳐 반영하고 합칠 키워드 수를 넘으면 버림")
+  public void offer_2() throws InterruptedException {
+    ReflectionTestUtils.setField(keywordHitPipeline, "overflowPolicy", KeywordHitOverflowPolicy.COALESCE);
+    keywordHitPipeline.post();
+
+    keywordHitPipeline.offer("떡볶이");
+    consuming.await();
+    keywordHitPipeline.offer("순대");
+    keywordHitPipeline.offer("튀김");
+    keywordHitPipeline.offer("김밥");
+    keywordHitPipeline.offer("김밥");
+    keywordHitPipeline.offer("김밥");
+    keywordHitPipeline.offer("라면");
+
+    assertEquals(3, meterRegistry.get("keyword.hits.queue.overflow").tag("result", "coalesced").counter().count());
+    assertEquals(1, meterRegistry.get("keyword.hits.queue.overflow").tag("result", "dropped").counter().count());
+
+    release.countDown();
+    keywordHitPipeline.shutdown();
+
+    verify(keywordHitsService, times(1)).incrementKeywordHits("순대", 1);
+    verify(keywordHitsService, times(1)).incrementKeywordHits("튀김", 1);
+    verify(keywordHitsService, times(1)).incrementKeywordHits("김밥", 3);
+    verify(keywordHitsService, never()).incrementKeywordHits(eq("라면"), anyLong());
+  }
+}
@@ -5,13 +5,17 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyDouble;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
-import com.example.placesearchtoy.application.model.KeywordHitEvent;
+import com.example.placesearchtoy.application.dto.KeywordDto;
+import com.example.placesearchtoy.application.model.type.KeywordHitsBackend;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
@@ -24,11 +28,20 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.ReactiveValueOperations;
+import org.springframework.data.redis.core.ReactiveZSetOperations;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.data.redis.core.ValueOperations;
 import org.springframework.data.redis.core.ZSetOperations;
 import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
 import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 @ExtendWith(MockitoExtension.class)
 public class KeywordHitsServiceTest {
@@ -39,17 +52,21 @@ public class KeywordHitsServiceTest {
   @Mock
   private ZSetOperations<String, String> zSetOperations;
 
+  @Mock
+  private ReactiveRedisTemplate<String, String> reactiveRedisTemplate;
+
   @Mock
   private ValueOperations<String, String> valueOperations;
 
   @InjectMocks
   private KeywordHitsService keywordHitsService;
 
-  private final KeywordHitEvent keywordHitEvent = KeywordHitEvent.of("떡볶이");
+  private final String keyword = "떡볶이";
 
   private final String minuteKeyPrefix = "ranking:minute:";
   private final String accumulateKeyPrefix = "ranking:accumulate:";
   private final String viewKey = "ranking:view";
+  private final String sketchKeyPrefix = "ranking:sketch:";
 
   private final String testViewKeyValue = "ranking:accumulate:schedule-complete";
 
@@ -63,6 +80,7 @@ public class KeywordHitsServiceTest {
     ReflectionTestUtils.setField(keywordHitsService, "minuteKeyPrefix", minuteKeyPrefix);
     ReflectionTestUtils.setField(keywordHitsService, "accumulateKeyPrefix", accumulateKeyPrefix);
     ReflectionTestUtils.setField(keywordHitsService, "viewKey", viewKey);
+    ReflectionTestUtils.setField(keywordHitsService, "backend", KeywordHitsBackend.REDIS);
 
     when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
     when(redisTemplate.opsForValue()).thenReturn(valueOperations);
@@ -72,9 +90,7 @@ public class KeywordHitsServiceTest {
   @Test
   @DisplayName("키워드 검색 횟수 증가 - 키워드가 공백일 경우, 종료")
   public void incrementKeywordHits_1() {
-    KeywordHitEvent emptyKeyword = KeywordHitEvent.of("   ");
-
-    keywordHitsService.incrementKeywordHits(emptyKeyword);
+    keywordHitsService.incrementKeywordHits("   ", 1);
 
     verify(zSetOperations, times(0)).incrementScore(anyString(), anyString(), anyDouble());
     verify(redisTemplate, times(0)).expire(anyString(), any());
@@ -86,17 +102,17 @@ public class KeywordHitsServiceTest {
     var suffix = LocalDateTime.now().format(suffixFormatter);
 
     var accumulateKey = accumulateKeyPrefix + suffix;
-    when(zSetOperations.incrementScore(accumulateKey, keywordHitEvent.getKeyword(), 1)).thenReturn(1D);
+    when(zSetOperations.incrementScore(accumulateKey, keyword, 1)).thenReturn(1D);
     when(redisTemplate.expire(accumulateKey, defaultTTL)).thenReturn(true);
 
     var minuteKey = minuteKeyPrefix + suffix;
-    when(zSetOperations.incrementScore(minuteKey, keywordHitEvent.getKeyword(), 1)).thenReturn(1D);
+    when(zSetOperations.incrementScore(minuteKey, keyword, 1)).thenReturn(1D);
     when(redisTemplate.expire(minuteKey, defaultTTL)).thenReturn(true);
 
-    keywordHitsService.incrementKeywordHits(keywordHitEvent);
+    keywordHitsService.incrementKeywordHits(keyword, 1);
 
-    verify(zSetOperations, times(1)).incrementScore(accumulateKey, keywordHitEvent.getKeyword(), 1);
-    verify(zSetOperations, times(1)).incrementScore(minuteKey, keywordHitEvent.getKeyword(), 1);
+    verify(zSetOperations, times(1)).incrementScore(accumulateKey, keyword, 1);
+    verify(zSetOperations, times(1)).incrementScore(minuteKey, keyword, 1);
     verify(redisTemplate, times(1)).expire(accumulateKey, defaultTTL);
     verify(redisTemplate, times(1)).expire(minuteKey, defaultTTL);
   }
@@ -107,20 +123,153 @@ public class KeywordHitsServiceTest {
     var suffix = LocalDateTime.now().format(suffixFormatter);
 
     var accumulateKey = accumulateKeyPrefix + suffix;
-    doThrow(testRuntimeException).when(zSetOperations).incrementScore(accumulateKey, keywordHitEvent.getKeyword(), 1);
+    doThrow(testRuntimeException).when(zSetOperations).incrementScore(accumulateKey, keyword, 1);
 
     var minuteKey = minuteKeyPrefix + suffix;
-    when(zSetOperations.incrementScore(minuteKey, keywordHitEvent.getKeyword(), 1)).thenReturn(1D);
+    when(zSetOperations.incrementScore(minuteKey, keyword, 1)).thenReturn(1D);
     when(redisTemplate.expire(minuteKey, defaultTTL)).thenReturn(true);
 
-    keywordHitsService.incrementKeywordHits(keywordHitEvent);
+    keywordHitsService.incrementKeywordHits(keyword, 1);
 
-    verify(zSetOperations, times(1)).incrementScore(accumulateKey, keywordHitEvent.getKeyword(), 1);
-    verify(zSetOperations, times(1)).incrementScore(minuteKey, keywordHitEvent.getKeyword(), 1);
+    verify(zSetOperations, times(1)).incrementScore(accumulateKey, keyword, 1);
+    verify(zSetOperations, times(1)).incrementScore(minuteKey, keyword, 1);
     verify(redisTemplate, times(0)).expire(accumulateKey, defaultTTL);
     verify(redisTemplate, times(1)).expire(minuteKey, defaultTTL);
   }
 
+  @Test
+  @DisplayName("키워드 검색 횟수 증가 - 모아서 저장할 경우, 레디스 호출 없이 저장 시점에 키마다 한 번에 스코어 증가")
+  public void incrementKeywordHits_4() {
+    ReflectionTestUtils.setField(keywordHitsService, "batching", true);
+    RedisOperations<String, String> pipeline = mock(RedisOperations.class);
+    when(pipeline.opsForZSet()).thenReturn(zSetOperations);
+    when(redisTemplate.executePipelined(any(SessionCallback.class)))
+        .thenAnswer(invocation -> {
+          invocation.<SessionCallback<?>>getArgument(0).execute(pipeline);
+          return List.of();
+        });
+
+    keywordHitsService.incrementKeywordHits(keyword, 1);
+    keywordHitsService.incrementKeywordHits(keyword, 1);
+    keywordHitsService.incrementKeywordHits("순대", 1);
+
+    verify(zSetOperations, never()).incrementScore(anyString(), anyString(), anyDouble());
+
+    var suffix = LocalDateTime.now().format(suffixFormatter);
+    keywordHitsService.flushKeywordHits();
+    keywordHitsService.flushKeywordHits();
+
+    verify(redisTemplate, times(1)).executePipelined(any(SessionCallback.class));
+    verify(zSetOperations, times(1)).incrementScore(accumulateKeyPrefix + suffix, keyword, 2);
+    verify(zSetOperations, times(1)).incrementScore(accumulateKeyPrefix + suffix, "순대", 1);
+    verify(zSetOperations, times(1)).incrementScore(minuteKeyPrefix + suffix, keyword, 2);
+    verify(zSetOperations, times(1)).incrementScore(minuteKeyPrefix + suffix, "순대", 1);
+    verify(pipeline, times(1)).expire(accumulateKeyPrefix + suffix, defaultTTL);
+    verify(pipeline, times(1)).expire(minuteKeyPrefix + suffix, defaultTTL);
+    verify(redisTemplate, never()).expire(anyString(), any());
+  }
+
+  @Test
+  @DisplayName("모아 둔 키워드 검색 횟수 저장 - 파이프라인에서 오류 발생 시, 에러 로깅 후 다음 저장에 다시 보냄")
+  public void flushKeywordHits_1() {
+    ReflectionTestUtils.setField(keywordHitsService, "batching", true);
+    RedisOperations<String, String> pipeline = mock(RedisOperations.class);
+    when(pipeline.opsForZSet()).thenReturn(zSetOperations);
+    when(redisTemplate.executePipelined(any(SessionCallback.class)))
+        .thenThrow(testRuntimeException)
+        .thenAnswer(invocation -> {
+          invocation.<SessionCallback<?>>getArgument(0).execute(pipeline);
+          return List.of();
+        });
+
+    keywordHitsService.incrementKeywordHits(keyword, 1);
+    var suffix = LocalDateTime.now().format(suffixFormatter);
+    keywordHitsService.flushKeywordHits();
+    keywordHitsService.incrementKeywordHits(keyword, 1);
+    keywordHitsService.flushKeywordHits();
+    keywordHitsService.flushKeywordHits();
+
+    verify(redisTemplate, times(2)).executePipelined(any(SessionCallback.class));
+    verify(zSetOperations, times(1)).incrementScore(accumulateKeyPrefix + suffix, keyword, 2);
+    verify(zSetOperations, times(1)).incrementScore(minuteKeyPrefix + suffix, keyword, 2);
+  }
+
+  @Test
+  @DisplayName("키워드 검색 횟수 증가 - 근사 요약을 사용할 경우, 종료 시점에 분 단위 요약 키에만 요약 저장")
+  public void incrementKeywordHits_5() {
+    enableSketch();
+    RedisOperations<String, String> pipeline = mock(RedisOperations.class);
+    when(pipeline.opsForZSet()).thenReturn(zSetOperations);
+    when(redisTemplate.executePipelined(any(SessionCallback.class)))
+        .thenAnswer(invocation -> {
+          invocation.<SessionCallback<?>>getArgument(0).execute(pipeline);
+          return List.of();
+        });
+
+    keywordHitsService.incrementKeywordHits(keyword, 1);
+    keywordHitsService.incrementKeywordHits(keyword, 1);
+
+    var suffix = LocalDateTime.now().format(suffixFormatter);
+    keywordHitsService.flushKeywordHits();
+    verify(redisTemplate, never()).executePipelined(any(SessionCallback.class));
+
+    keywordHitsService.flushKeywordHitsOnShutdown();
+
+    verify(zSetOperations, times(1)).incrementScore(sketchKeyPrefix + suffix, keyword, 2);
+    verify(pipeline, times(1)).expire(sketchKeyPrefix + suffix, defaultTTL);
+    verify(zSetOperations, never()).incrementScore(startsWith(accumulateKeyPrefix), anyString(), anyDouble());
+  }
+
+  @Test
+  @DisplayName("많이 검색된 상위 키워드 목록 조회 - 근사 요약을 사용할 경우, 레디스의 지난 9분 요약과 진행 중인 분의 요약을 합쳐 반환")
+  public void searchTopKeywordHits_1() {
+    enableSketch();
+    RedisOperations<String, String> pipeline = mock(RedisOperations.class);
+    when(pipeline.opsForZSet()).thenReturn(zSetOperations);
+    when(redisTemplate.executePipelined(any(SessionCallback.class)))
+        .thenAnswer(invocation -> {
+          invocation.<SessionCallback<?>>getArgument(0).execute(pipeline);
+          return List.of(Set.of(new DefaultTypedTuple<>("떡볶이", 3D), new DefaultTypedTuple<>("순대", 5D)),
+              Set.of(new DefaultTypedTuple<>("순대", 1D), new DefaultTypedTuple<>("김밥", 2D)));
+        });
+
+    keywordHitsService.incrementKeywordHits("떡볶이", 4);
+    var actuals = keywordHitsService.searchTopKeywordHits(2);
+
+    assertEquals(List.of("떡볶이", "순대"), actuals.stream().map(KeywordDto::getTitle).toList());
+    assertEquals(List.of(7L, 6L), actuals.stream().map(KeywordDto::getHits).toList());
+    verify(zSetOperations, times(9)).rangeWithScores(startsWith(sketchKeyPrefix), eq(0L), eq(-1L));
+  }
+
+  @Test
+  @DisplayName("많이 검색된 상위 키워드 목록 조회 - 슬라이딩 윈도우를 사용할 경우, 레디스 조회 없이 윈도우 순위 반환")
+  public void searchTopKeywordHits_2() {
+    ReflectionTestUtils.setField(keywordHitsService, "backend", KeywordHitsBackend.SLIDING_WINDOW);
+    ReflectionTestUtils.setField(keywordHitsService, "slidingWindowBucketWidth", Duration.ofSeconds(5));
+    ReflectionTestUtils.setField(keywordHitsService, "slidingWindowLength", Duration.ofMinutes(10));
+    keywordHitsService.post();
+
+    keywordHitsService.incrementKeywordHits(keyword, 1);
+    keywordHitsService.incrementKeywordHits("순대", 3);
+    keywordHitsService.flushKeywordHits();
+
+    var actuals = keywordHitsService.searchTopKeywordHitsAsync(10).block();
+
+    assertEquals(List.of("순대", "떡볶이"), actuals.stream().map(KeywordDto::getTitle).toList());
+    assertEquals(List.of(3L, 1L), actuals.stream().map(KeywordDto::getHits).toList());
+    verify(redisTemplate, never()).executePipelined(any(SessionCallback.class));
+    verify(zSetOperations, never()).incrementScore(anyString(), anyString(), anyDouble());
+  }
+
+  private void enableSketch() {
+    ReflectionTestUtils.setField(keywordHitsService, "backend", KeywordHitsBackend.SKETCH);
+    ReflectionTestUtils.setField(keywordHitsService, "sketchKeyPrefix", sketchKeyPrefix);
+    ReflectionTestUtils.setField(keywordHitsService, "sketchEpsilon", 0.001);
+    ReflectionTestUtils.setField(keywordHitsService, "sketchDelta", 0.01);
+    ReflectionTestUtils.setField(keywordHitsService, "sketchTopK", 10);
+    keywordHitsService.post();
+  }
+
   @Test
   @DisplayName("많이 검색된 상위 10개 키워드 목록 조회 - 조회 키 획득에서 오류 발생 시, 실시간 누적 키로 직접 조회")
   public void searchTop10KeywordHits_1() {
@@ -189,4 +338,39 @@ public class KeywordHitsServiceTest {
     verify(valueOperations, times(1)).get(viewKey);
     verify(zSetOperations, times(1)).reverseRangeWithScores(testViewKeyValue, 0, 9);
   }
+
+  @Test
+  @DisplayName("많이 검색된 상위 키워드 목록 조회 - 논블로킹 조회 정상 완료 시, 키워드 DTO 목록 반환")
+  public void searchTopKeywordHitsAsync_1() {
+    ReactiveValueOperations<String, String> reactiveValueOperations = mock(ReactiveValueOperations.class);
+    ReactiveZSetOperations<String, String> reactiveZSetOperations = mock(ReactiveZSetOperations.class);
+    when(reactiveRedisTemplate.opsForValue()).thenReturn(reactiveValueOperations);
+    when(reactiveRedisTemplate.opsForZSet()).thenReturn(reactiveZSetOperations);
+    when(reactiveValueOperations.get(viewKey)).thenReturn(Mono.just(testViewKeyValue));
+    when(reactiveZSetOperations.reverseRangeWithScores(testViewKeyValue, Range.closed(0L, 9L)))
+        .thenReturn(Flux.just(new DefaultTypedTuple<>("떡볶이", 4D)));
+
+    var actuals = keywordHitsService.searchTopKeywordHitsAsync(10).block();
+
+    assertEquals(1, actuals.size());
+    assertEquals("떡볶이", actuals.get(0).getTitle());
+    assertEquals(4L, actuals.get(0).getHits());
+  }
+
+  @Test
+  @DisplayName("많이 검색된 상위 키워드 목록 조회 - 논블로킹 조회에서 오류 발생 시, 빈 목록 반환")
+  public void searchTopKeywordHitsAsync_2() {
+    ReactiveValueOperations<String, String> reactiveValueOperations = mock(ReactiveValueOperations.class);
+    ReactiveZSetOperations<String, String> reactiveZSetOperations = mock(ReactiveZSetOperations.class);
+    when(reactiveRedisTemplate.opsForValue()).thenReturn(reactiveValueOperations);
+    when(reactiveRedisTemplate.opsForZSet()).thenReturn(reactiveZSetOperations);
+    when(reactiveValueOperations.get(viewKey)).thenReturn(Mono.error(testRuntimeException));
+
+    var accumulateKey = accumulateKeyPrefix + LocalDateTime.now().format(suffixFormatter);
+    when(reactiveZSetOperations.reverseRangeWithScores(accumulateKey, Range.closed(0L, 9L))).thenReturn(Flux.error(testRuntimeException));
+
+    var actuals = keywordHitsService.searchTopKeywordHitsAsync(10).block();
+
+    assertEquals(List.of(), actuals);
+  }
 }
@@ -0,0 +1,78 @@
+package com.example.placesearchtoy.application.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.placesearchtoy.application.dto.PlaceDto;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class PlaceBatchSearchServiceTest {
+
+  @Mock
+  private SearchQueryService searchQueryService;
+
+  private PlaceBatchSearchService placeBatchSearchService;
+
+  private final ExecutorService batchSearchExecutor = Executors.newFixedThreadPool(2);
+
+  private final String query = "떡볶이";
+  private final String secondQuery = "감자빵";
+
+  @BeforeEach
+  public void setUp() {
+    placeBatchSearchService = new PlaceBatchSearchService(searchQueryService, batchSearchExecutor);
+    when(searchQueryService.filteredQuery(anyString())).thenAnswer(invocation -> invocation.getArgument(0, String.class).replaceAll("\\s", ""));
+  }
+
+  @AfterEach
+  public void tearDown() {
+    batchSearchExecutor.shutdownNow();
+  }
+
+  @Test
+  @DisplayName("여러 검색어의 장소 목록 조회 - 필터링한 검색어가 같을 경우, 한 번만 조회하여 요청한 검색어별로 반환")
+  public void searchPlaces_1() {
+    var places = List.of(mock(PlaceDto.class));
+    var secondPlaces = List.of(mock(PlaceDto.class));
+    when(searchQueryService.searchPlaces(query)).thenReturn(places);
+    when(searchQueryService.searchPlaces(secondQuery)).thenReturn(secondPlaces);
+
+    var actuals = placeBatchSearchService.searchPlaces(List.of("떡 볶이", secondQuery, query));
+
+    assertEquals(List.of("떡 볶이", secondQuery, query), List.copyOf(actuals.keySet()));
+    assertEquals(places, actuals.get("떡 볶이"));
+    assertEquals(secondPlaces, actuals.get(secondQuery));
+    assertEquals(places, actuals.get(query));
+
+    verify(searchQueryService, times(1)).searchPlaces(query);
+    verify(searchQueryService, times(1)).searchPlaces(secondQuery);
+  }
+
+  @Test
+  @DisplayName("여러 검색어의 장소 목록 조회 - 일부 검색어 조회 중 오류 발생 시, 해당 검색어는 빈 목록 반환")
+  public void searchPlaces_2() {
+    var places = List.of(mock(PlaceDto.class));
+    when(searchQueryService.searchPlaces(query)).thenReturn(places);
+    doThrow(new RuntimeException("ERROR")).when(searchQueryService).searchPlaces(secondQuery);
+
+    var actuals = placeBatchSearchService.searchPlaces(List.of(query, secondQuery));
+
+    assertEquals(places, actuals.get(query));
+    assertEquals(List.of(), actuals.get(secondQuery));
+  }
+}
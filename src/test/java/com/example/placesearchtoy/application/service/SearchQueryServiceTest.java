@@ -3,7 +3,12 @@ package com.example.placesearchtoy.application.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
@@ -13,18 +18,34 @@ import static org.mockito.Mockito.when;
 
 import com.example.placesearchtoy.adapter.model.Document;
 import com.example.placesearchtoy.adapter.model.Item;
+import com.example.placesearchtoy.adapter.provider.KakaoPlaceProvider;
+import com.example.placesearchtoy.adapter.provider.NaverPlaceProvider;
 import com.example.placesearchtoy.adapter.service.KakaoService;
 import com.example.placesearchtoy.adapter.service.NaverService;
+import com.example.placesearchtoy.application.cache.PlaceCache;
 import com.example.placesearchtoy.application.dto.PlaceDto;
 import com.example.placesearchtoy.application.mapper.PlaceMapper;
 import com.example.placesearchtoy.application.model.type.ProviderType;
+import com.example.placesearchtoy.application.provider.PlaceProvider;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
 
 @ExtendWith(MockitoExtension.class)
 public class SearchQueryServiceTest {
@@ -38,9 +59,17 @@ public class SearchQueryServiceTest {
   @Mock
   private PlaceMapper mapper;
 
-  @InjectMocks
+  @Mock
+  private PlaceCache placeCache;
+
+  private NaverPlaceProvider naverPlaceProvider;
+
+  private KakaoPlaceProvider kakaoPlaceProvider;
+
   private SearchQueryService searchQueryService;
 
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
   private final int maxSize = 10;
 
   private final String query = "떡볶이";
@@ -55,6 +84,20 @@ public class SearchQueryServiceTest {
 
   private final RuntimeException testRuntimeException = new RuntimeException("ERROR");
 
+  private final ExecutorService providerExecutor = Executors.newFixedThreadPool(2);
+
+  @BeforeEach
+  public void setUp() {
+    naverPlaceProvider = new NaverPlaceProvider(naverService, mapper);
+    kakaoPlaceProvider = new KakaoPlaceProvider(kakaoService, mapper);
+    searchQueryService = new SearchQueryService(List.of(naverPlaceProvider, kakaoPlaceProvider), placeCache, meterRegistry, providerExecutor);
+  }
+
+  @AfterEach
+  public void tearDown() {
+    providerExecutor.shutdownNow();
+  }
+
   @Test
   @DisplayName("필터링된 검색어 조회 - 공백이 포함된 키워드일 경우, 공백 제거하여 반환")
   public void filteredQuery_1() {
@@ -76,7 +119,7 @@ public class SearchQueryServiceTest {
   @Test
   @DisplayName("검색어와 관련된 장소 목록 조회 - 네이버 검색 API에서 오류 발생 시, 카카오 장소 목록 반환")
   public void searchPlaces_1() {
-    doThrow(testRuntimeException).when(naverService).searchLocalItems(query);
+    doThrow(testRuntimeException).when(naverService).searchLocalItems(query, 5);
 
     var mockDocuments = List.of(mock(Document.class));
     when(kakaoService.searchKeywordDocuments(query, maxSize)).thenReturn(mockDocuments);
@@ -92,7 +135,7 @@ public class SearchQueryServiceTest {
     var actual = actuals.get(0);
     assertEquals(mockPlace, actual);
 
-    verify(naverService, times(1)).searchLocalItems(query);
+    verify(naverService, times(1)).searchLocalItems(query, 5);
     verify(mapper, times(0)).itemsToPlaceDtos(any(), any());
     verify(kakaoService, times(1)).searchKeywordDocuments(query, maxSize);
     verify(mapper, times(1)).documentsToPlaceDtos(mockDocuments, ProviderType.KAKAO);
@@ -102,7 +145,7 @@ public class SearchQueryServiceTest {
   @DisplayName("검색어와 관련된 장소 목록 조회 - 카카오 검색 API에서 오류 발생 시, 네이버 장소 목록 반환")
   public void searchPlaces_2() {
     var mockItems = List.of(mock(Item.class));
-    when(naverService.searchLocalItems(query)).thenReturn(mockItems);
+    when(naverService.searchLocalItems(query, 5)).thenReturn(mockItems);
 
     doThrow(testRuntimeException).when(kakaoService).searchKeywordDocuments(query, 9);
 
@@ -117,7 +160,7 @@ public class SearchQueryServiceTest {
     var actual = actuals.get(0);
     assertEquals(mockPlace, actual);
 
-    verify(naverService, times(1)).searchLocalItems(query);
+    verify(naverService, times(1)).searchLocalItems(query, 5);
     verify(mapper, times(1)).itemsToPlaceDtos(mockItems, ProviderType.NAVER);
     verify(kakaoService, times(1)).searchKeywordDocuments(query, 9);
     verify(mapper, times(0)).documentsToPlaceDtos(any(), any());
@@ -126,14 +169,14 @@ public class SearchQueryServiceTest {
   @Test
   @DisplayName("검색어와 관련된 장소 목록 조회 - 카카오/네이버 검색 API 모두 오류 발생 시, 빈 장소 목록 반환")
   public void searchPlaces_3() {
-    doThrow(testRuntimeException).when(naverService).searchLocalItems(query);
+    doThrow(testRuntimeException).when(naverService).searchLocalItems(query, 5);
     doThrow(testRuntimeException).when(kakaoService).searchKeywordDocuments(query, maxSize);
 
     var actuals = searchQueryService.searchPlaces(query);
 
     assertEquals(0, actuals.size());
 
-    verify(naverService, times(1)).searchLocalItems(query);
+    verify(naverService, times(1)).searchLocalItems(query, 5);
     verify(mapper, times(0)).itemsToPlaceDtos(any(), any());
     verify(kakaoService, times(1)).searchKeywordDocuments(query, maxSize);
     verify(mapper, times(0)).documentsToPlaceDtos(any(), any());
@@ -143,7 +186,7 @@ public class SearchQueryServiceTest {
   @DisplayName("검색어와 관련된 장소 목록 조회 - 카카오/네이버 모두 검색된 장소가 존재하지 않을 경우, 카카오-네이버 순으로 정렬된 목록 반환")
   public void searchPlaces_4() {
     var mockItems = List.of(mock(Item.class));
-    when(naverService.searchLocalItems(query)).thenReturn(mockItems);
+    when(naverService.searchLocalItems(query, 5)).thenReturn(mockItems);
 
     var mockNaverPlace = firstMockPlace(ProviderType.NAVER);
     doNothing().when(mockNaverPlace).updateMatchCount(1);
@@ -170,7 +213,7 @@ public class SearchQueryServiceTest {
     assertEquals(mockNaverPlace.getRoadAddress(), naverActual.getRoadAddress());
     assertEquals(ProviderType.NAVER, naverActual.getProviderType());
 
-    verify(naverService, times(1)).searchLocalItems(query);
+    verify(naverService, times(1)).searchLocalItems(query, 5);
     verify(mapper, times(1)).itemsToPlaceDtos(mockItems, ProviderType.NAVER);
     verify(kakaoService, times(1)).searchKeywordDocuments(query, 9);
     verify(mapper, times(1)).documentsToPlaceDtos(mockDocuments, ProviderType.KAKAO);
@@ -200,14 +243,12 @@ public class SearchQueryServiceTest {
   @DisplayName("검색어와 관련된 장소 목록 조회 - 카카오/네이버 모두 검색된 장소가 존재하는 경우, 모두 검색된 장소가 우선 정렬된 목록 반환")
   public void searchPlaces_5() {
     var mockItems = List.of(mock(Item.class), mock(Item.class));
-    when(naverService.searchLocalItems(query)).thenReturn(mockItems);
+    when(naverService.searchLocalItems(query, 5)).thenReturn(mockItems);
 
     var oneMatchedPlace = firstMockPlace(ProviderType.NAVER);
     doNothing().when(oneMatchedPlace).updateMatchCount(1);
-    when(oneMatchedPlace.getMatchCount()).thenReturn(1);
     var twoMatchedPlace = secondMockPlace(ProviderType.NAVER);
     doNothing().when(twoMatchedPlace).updateMatchCount(2);
-    when(twoMatchedPlace.getMatchCount()).thenReturn(2);
 
     when(mapper.itemsToPlaceDtos(mockItems, ProviderType.NAVER)).thenReturn(List.of(oneMatchedPlace, twoMatchedPlace));
 
@@ -224,21 +265,23 @@ public class SearchQueryServiceTest {
     var twoMatched = actuals.get(0);
     assertEquals(twoMatchedPlace.getName(), twoMatched.getName());
     assertEquals(twoMatchedPlace.getRoadAddress(), twoMatched.getRoadAddress());
+    assertEquals(twoMatchedPlace.getProviderType(), twoMatched.getProviderType());
 
     var oneMatched = actuals.get(1);
     assertEquals(oneMatchedPlace.getName(), oneMatched.getName());
     assertEquals(oneMatchedPlace.getRoadAddress(), oneMatched.getRoadAddress());
+    assertEquals(oneMatchedPlace.getProviderType(), oneMatched.getProviderType());
 
-    verify(naverService, times(1)).searchLocalItems(query);
+    verify(naverService, times(1)).searchLocalItems(query, 5);
     verify(mapper, times(1)).itemsToPlaceDtos(mockItems, ProviderType.NAVER);
     verify(kakaoService, times(1)).searchKeywordDocuments(query, 8);
     verify(mapper, times(1)).documentsToPlaceDtos(mockDocuments, ProviderType.KAKAO);
   }
 
   @Test
-  @DisplayName("검색어와 관련된 장소 목록 조회 - 카카오/네이버 검색 결과에 장소가 있는지 판단할 때 오류 발생 시, 에러 로깅 후 로직 반복 및 목록 반환")
+  @DisplayName("검색어와 관련된 장소 목록 조회 - 카카오/네이버 검색 결과에 장소가 있는지 판단할 때 오류 발생 시, 에러 로깅 후 목록 반환")
   public void searchPlaces_6() {
-    when(naverService.searchLocalItems(query)).thenReturn(List.of());
+    when(naverService.searchLocalItems(query, 5)).thenReturn(List.of());
     when(mapper.itemsToPlaceDtos(List.of(), ProviderType.NAVER)).thenReturn(List.of());
 
     var mockDocuments = List.of(mock(Document.class));
@@ -258,11 +301,346 @@ public class SearchQueryServiceTest {
     assertEquals(mockPlace.getName(), actual.getName());
     assertEquals(mockPlace.getRoadAddress(), actual.getRoadAddress());
 
-    verify(naverService, times(1)).searchLocalItems(query);
+    verify(naverService, times(1)).searchLocalItems(query, 5);
     verify(mapper, times(1)).itemsToPlaceDtos(List.of(), ProviderType.NAVER);
     verify(kakaoService, times(1)).searchKeywordDocuments(query, maxSize);
     verify(mapper, times(1)).documentsToPlaceDtos(mockDocuments, ProviderType.KAKAO);
 
-    verify(mockPlace, times(2)).getNameWithAddress();
+    verify(mockPlace, times(1)).getNameWithAddress();
+  }
+
+  @Test
+  @DisplayName("검색어와 관련된 장소 목록 조회 - 동시 호출 모드일 경우, 네이버 결과 개수와 무관하게 카카오 장소를 최대 개수만큼 조회")
+  public void searchPlaces_7() {
+    enableConcurrentFanOut(3000);
+
+    var mockItems = List.of(mock(Item.class));
+    when(naverService.searchLocalItems(query, 5)).thenReturn(mockItems);
+
+    var mockNaverPlace = firstMockPlace(ProviderType.NAVER);
+    doNothing().when(mockNaverPlace).updateMatchCount(1);
+    when(mapper.itemsToPlaceDtos(mockItems, ProviderType.NAVER)).thenReturn(List.of(mockNaverPlace));
+
+    var mockDocuments = List.of(mock(Document.class));
+    when(kakaoService.searchKeywordDocuments(query, maxSize)).thenReturn(mockDocuments);
+
+    var mockKakaoPlace = secondMockPlace(ProviderType.KAKAO);
+    doNothing().when(mockKakaoPlace).updateMatchCount(1);
+    when(mapper.documentsToPlaceDtos(mockDocuments, ProviderType.KAKAO)).thenReturn(List.of(mockKakaoPlace));
+
+    var actuals = searchQueryService.searchPlaces(query);
+
+    assertEquals(2, actuals.size());
+
+    var kakaoActual = actuals.get(0);
+    assertEquals(mockKakaoPlace.getName(), kakaoActual.getName());
+    assertEquals(mockKakaoPlace.getRoadAddress(), kakaoActual.getRoadAddress());
+    assertEquals(ProviderType.KAKAO, kakaoActual.getProviderType());
+
+    var naverActual = actuals.get(1);
+    assertEquals(mockNaverPlace.getName(), naverActual.getName());
+    assertEquals(mockNaverPlace.getRoadAddress(), naverActual.getRoadAddress());
+    assertEquals(ProviderType.NAVER, naverActual.getProviderType());
+
+    verify(naverService, times(1)).searchLocalItems(query, 5);
+    verify(kakaoService, times(1)).searchKeywordDocuments(query, maxSize);
+  }
+
+  @Test
+  @DisplayName("검색어와 관련된 장소 목록 조회 - 동시 호출 모드에서 마감 시간 내에 응답하지 않은 API가 있을 경우, 해당 결과를 제외한 목록 반환")
+  public void searchPlaces_8() throws InterruptedException {
+    enableConcurrentFanOut(100);
+
+    var naverLatch = new CountDownLatch(1);
+    when(naverService.searchLocalItems(query, 5)).thenAnswer(invocation -> {
+      naverLatch.await();
+      return List.of();
+    });
+
+    var mockDocuments = List.of(mock(Document.class));
+    when(kakaoService.searchKeywordDocuments(query, maxSize)).thenReturn(mockDocuments);
+
+    var mockKakaoPlace = mock(PlaceDto.class);
+    doNothing().when(mockKakaoPlace).updateMatchCount(1);
+    when(mapper.documentsToPlaceDtos(mockDocuments, ProviderType.KAKAO)).thenReturn(List.of(mockKakaoPlace));
+
+    var actuals = searchQueryService.searchPlaces(query);
+    naverLatch.countDown();
+
+    assertEquals(1, actuals.size());
+    assertEquals(mockKakaoPlace, actuals.get(0));
+
+    verify(kakaoService, times(1)).searchKeywordDocuments(query, maxSize);
+  }
+
+  private void enableConcurrentFanOut(long deadlineMillis) {
+    ReflectionTestUtils.setField(searchQueryService, "concurrentFanOut", true);
+    ReflectionTestUtils.setField(searchQueryService, "fanOutDeadlineMillis", deadlineMillis);
+  }
+
+  @Test
+  @DisplayName("검색어와 관련된 장소 목록 조회 - 캐시 사용 시, 캐시에서 장소 목록 반환")
+  public void searchPlaces_9() {
+    ReflectionTestUtils.setField(searchQueryService, "cacheEnabled", true);
+
+    var cachedPlaces = List.of(mock(PlaceDto.class));
+    when(placeCache.get(eq(query), any())).thenReturn(cachedPlaces);
+
+    var actuals = searchQueryService.searchPlaces(query);
+
+    assertEquals(cachedPlaces, actuals);
+
+    verify(placeCache, times(1)).get(eq(query), any());
+    verify(naverService, times(0)).searchLocalItems(anyString(), anyInt());
+    verify(kakaoService, times(0)).searchKeywordDocuments(anyString(), anyInt());
+  }
+
+  @Test
+  @DisplayName("검색어와 관련된 장소 목록 조회 - 논블로킹 호출 모드에서 실패한 API가 있을 경우, 해당 결과를 제외한 목록 반환")
+  public void searchPlaces_10() {
+    enableConcurrentFanOut(3000);
+    ReflectionTestUtils.setField(searchQueryService, "nonBlockingFanOut", true);
+
+    when(naverService.searchLocalItemsAsync(query, 5)).thenReturn(Mono.error(new IllegalStateException("naver fail")));
+
+    var mockDocuments = List.of(mock(Document.class));
+    when(kakaoService.searchKeywordDocumentsAsync(query, maxSize)).thenReturn(Mono.just(mockDocuments));
+
+    var mockKakaoPlace = mock(PlaceDto.class);
+    when(mapper.documentsToPlaceDtos(mockDocuments, ProviderType.KAKAO)).thenReturn(List.of(mockKakaoPlace));
+
+    var actuals = searchQueryService.searchPlaces(query);
+
+    assertEquals(List.of(mockKakaoPlace), actuals);
+
+    verify(naverService, times(0)).searchLocalItems(anyString(), anyInt());
+    verify(kakaoService, times(0)).searchKeywordDocuments(anyString(), anyInt());
+  }
+
+  @Test
+  @DisplayName("검색어와 관련된 장소 목록 조회 - 스트리밍 변환 사용 시, 장소 목록을 바로 받아 합쳐 반환")
+  public void searchPlaces_11() {
+    ReflectionTestUtils.setField(naverPlaceProvider, "streamingDecoding", true);
+    ReflectionTestUtils.setField(kakaoPlaceProvider, "streamingDecoding", true);
+
+    var mockNaverPlace = firstMockPlace(ProviderType.NAVER);
+    doNothing().when(mockNaverPlace).updateMatchCount(1);
+    when(naverService.searchLocalPlaces(query, 5)).thenReturn(List.of(mockNaverPlace));
+
+    var mockKakaoPlace = secondMockPlace(ProviderType.KAKAO);
+    doNothing().when(mockKakaoPlace).updateMatchCount(1);
+    when(kakaoService.searchKeywordPlaces(query, maxSize - 1)).thenReturn(List.of(mockKakaoPlace));
+
+    var actuals = searchQueryService.searchPlaces(query);
+
+    assertEquals(2, actuals.size());
+    assertEquals(mockKakaoPlace.getName(), actuals.get(0).getName());
+    assertEquals(mockKakaoPlace.getRoadAddress(), actuals.get(0).getRoadAddress());
+    assertEquals(ProviderType.KAKAO, actuals.get(0).getProviderType());
+    assertEquals(mockNaverPlace.getName(), actuals.get(1).getName());
+    assertEquals(mockNaverPlace.getRoadAddress(), actuals.get(1).getRoadAddress());
+    assertEquals(ProviderType.NAVER, actuals.get(1).getProviderType());
+
+    verify(naverService, times(0)).searchLocalItems(anyString(), anyInt());
+    verify(kakaoService, times(0)).searchKeywordDocuments(anyString(), anyInt());
+    verify(mapper, times(0)).itemsToPlaceDtos(any(), any());
+  }
+
+  @Test
+  @DisplayName("검색어와 관련된 장소 목록 조회 - 검색 API가 추가된 경우, 모든 API를 동시에 호출하고 API별 호출 결과를 기록")
+  public void searchPlaces_12() {
+    var partnerProvider = mock(PlaceProvider.class);
+    when(partnerProvider.getId()).thenReturn("PARTNER");
+    when(partnerProvider.getPriority()).thenReturn(0);
+    when(partnerProvider.getMaxPageSize()).thenReturn(20);
+    var mockPartnerPlace = mock(PlaceDto.class);
+    when(partnerProvider.fetch(query, maxSize)).thenReturn(List.of(mockPartnerPlace));
+
+    searchQueryService = new SearchQueryService(List.of(naverPlaceProvider, kakaoPlaceProvider, partnerProvider), placeCache, meterRegistry,
+        providerExecutor);
+    enableConcurrentFanOut(3000);
+
+    doThrow(testRuntimeException).when(naverService).searchLocalItems(query, 5);
+
+    var mockDocuments = List.of(mock(Document.class));
+    when(kakaoService.searchKeywordDocuments(query, maxSize)).thenReturn(mockDocuments);
+
+    var mockKakaoPlace = secondMockPlace(ProviderType.KAKAO);
+    when(mapper.documentsToPlaceDtos(mockDocuments, ProviderType.KAKAO)).thenReturn(List.of(mockKakaoPlace));
+
+    var actuals = searchQueryService.searchPlaces(query);
+
+    assertEquals(2, actuals.size());
+    assertEquals(mockPartnerPlace, actuals.get(0));
+    assertEquals(mockKakaoPlace.getName(), actuals.get(1).getName());
+    assertEquals(mockKakaoPlace.getRoadAddress(), actuals.get(1).getRoadAddress());
+    assertEquals(ProviderType.KAKAO, actuals.get(1).getProviderType());
+
+    assertEquals(1, meterRegistry.get("search.provider.fetch").tags("provider", "PARTNER", "result", "success").timer().count());
+    assertEquals(1, meterRegistry.get("search.provider.fetch").tags("provider", "KAKAO", "result", "success").timer().count());
+    assertEquals(1, meterRegistry.get("search.provider.fetch").tags("provider", "NAVER", "result", "failure").timer().count());
+  }
+
+  @Test
+  @DisplayName("검색어와 관련된 장소 목록 조회 - 마감 시간이 지난 뒤에 API 호출이 끝날 경우, 호출 결과를 timeout으로 한 번만 기록")
+  public void searchPlaces_13() throws InterruptedException {
+    enableConcurrentFanOut(100);
+
+    var naverLatch = new CountDownLatch(1);
+    when(naverService.searchLocalItems(query, 5)).thenAnswer(invocation -> {
+      naverLatch.await();
+      return List.of();
+    });
+    when(kakaoService.searchKeywordDocuments(query, maxSize)).thenReturn(List.of());
+
+    searchQueryService.searchPlaces(query);
+    naverLatch.countDown();
+    providerExecutor.shutdown();
+    assertTrue(providerExecutor.awaitTermination(1, TimeUnit.SECONDS));
+
+    assertEquals(1, meterRegistry.get("search.provider.fetch").tags("provider", "NAVER", "result", "timeout").timer().count());
+    assertNull(meterRegistry.find("search.provider.fetch").tags("provider", "NAVER", "result", "success").timer());
+    assertNull(meterRegistry.find("search.provider.fetch").tags("provider", "NAVER", "result", "failure").timer());
+  }
+
+  @Test
+  @DisplayName("검색어와 관련된 장소 목록 조회 - 실행기가 가득 차 호출이 거절될 경우, 요청 스레드에서 호출하지 않고 rejected로 기록")
+  public void searchPlaces_14() {
+    Executor rejectingExecutor = command -> {
+      throw new RejectedExecutionException("provider executor full");
+    };
+    searchQueryService = new SearchQueryService(List.of(naverPlaceProvider, kakaoPlaceProvider), placeCache, meterRegistry, rejectingExecutor);
+    enableConcurrentFanOut(3000);
+
+    var actuals = searchQueryService.searchPlaces(query);
+
+    assertTrue(actuals.isEmpty());
+    assertEquals(1, meterRegistry.get("search.provider.fetch").tags("provider", "NAVER", "result", "rejected").timer().count());
+    assertEquals(1, meterRegistry.get("search.provider.fetch").tags("provider", "KAKAO", "result", "rejected").timer().count());
+
+    verify(naverService, times(0)).searchLocalItems(anyString(), anyInt());
+    verify(kakaoService, times(0)).searchKeywordDocuments(anyString(), anyInt());
+  }
+
+  @Test
+  @DisplayName("검색어와 관련된 장소 목록 조회 - 논블로킹 조회 시, 두 API 결과를 합쳐 반환")
+  public void searchPlacesAsync_1() {
+    ReflectionTestUtils.setField(searchQueryService, "fanOutDeadlineMillis", 3000L);
+
+    var mockItems = List.of(mock(Item.class));
+    when(naverService.searchLocalItemsAsync(query, 5)).thenReturn(Mono.just(mockItems));
+
+    var mockNaverPlace = firstMockPlace(ProviderType.NAVER);
+    doNothing().when(mockNaverPlace).updateMatchCount(1);
+    when(mapper.itemsToPlaceDtos(mockItems, ProviderType.NAVER)).thenReturn(List.of(mockNaverPlace));
+
+    var mockDocuments = List.of(mock(Document.class));
+    when(kakaoService.searchKeywordDocumentsAsync(query, maxSize)).thenReturn(Mono.just(mockDocuments));
+
+    var mockKakaoPlace = secondMockPlace(ProviderType.KAKAO);
+    doNothing().when(mockKakaoPlace).updateMatchCount(1);
+    when(mapper.documentsToPlaceDtos(mockDocuments, ProviderType.KAKAO)).thenReturn(List.of(mockKakaoPlace));
+
+    var actuals = searchQueryService.searchPlacesAsync(query).block();
+
+    assertEquals(2, actuals.size());
+
+    var kakaoActual = actuals.get(0);
+    assertEquals(mockKakaoPlace.getName(), kakaoActual.getName());
+    assertEquals(mockKakaoPlace.getRoadAddress(), kakaoActual.getRoadAddress());
+    assertEquals(ProviderType.KAKAO, kakaoActual.getProviderType());
+
+    var naverActual = actuals.get(1);
+    assertEquals(mockNaverPlace.getName(), naverActual.getName());
+    assertEquals(mockNaverPlace.getRoadAddress(), naverActual.getRoadAddress());
+    assertEquals(ProviderType.NAVER, naverActual.getProviderType());
+
+    verify(placeCache, times(0)).getAsync(anyString(), any());
+  }
+
+  @Test
+  @DisplayName("검색어와 관련된 장소 목록 조회 - 논블로킹 조회가 동시에 요청될 경우, 검색 API를 한 번만 호출하고 합쳐진 조회 수 기록")
+  public void searchPlacesAsync_2() {
+    ReflectionTestUtils.setField(searchQueryService, "fanOutDeadlineMillis", 3000L);
+    ReflectionTestUtils.setField(searchQueryService, "coalescingEnabled", true);
+    ReflectionTestUtils.setField(searchQueryService, "coalescingFollowerTimeout", Duration.ofSeconds(1));
+    searchQueryService.post();
+
+    Sinks.One<List<Item>> naverResponse = Sinks.one();
+    when(naverService.searchLocalItemsAsync(query, 5)).thenReturn(naverResponse.asMono());
+    when(kakaoService.searchKeywordDocumentsAsync(query, maxSize)).thenReturn(Mono.just(List.of()));
+
+    var mockNaverPlace = mock(PlaceDto.class);
+    when(mapper.itemsToPlaceDtos(List.of(), ProviderType.NAVER)).thenReturn(List.of(mockNaverPlace));
+
+    var leader = searchQueryService.searchPlacesAsync(query).toFuture();
+    var follower = searchQueryService.searchPlacesAsync(query).toFuture();
+    assertFalse(leader.isDone());
+    assertFalse(follower.isDone());
+
+    naverResponse.tryEmitValue(List.of());
+
+    assertEquals(List.of(mockNaverPlace), leader.join());
+    assertEquals(List.of(mockNaverPlace), follower.join());
+    assertEquals(1, meterRegistry.get("search.places.coalesced").functionCounter().count());
+
+    verify(naverService, times(1)).searchLocalItemsAsync(query, 5);
+    verify(kakaoService, times(1)).searchKeywordDocumentsAsync(query, maxSize);
+  }
+
+  @Test
+  @DisplayName("검색어와 관련된 장소 목록 스트리밍 조회 - 검색 API 응답 시간이 다를 경우, 먼저 응답한 API 목록을 전달한 뒤 최종 목록 전달")
+  public void streamPlaces_1() {
+    ReflectionTestUtils.setField(searchQueryService, "fanOutDeadlineMillis", 3000L);
+
+    var mockItems = List.of(mock(Item.class));
+    when(naverService.searchLocalItemsAsync(query, 5)).thenReturn(Mono.just(mockItems).delayElement(Duration.ofMillis(100)));
+
+    var mockNaverPlace = firstMockPlace(ProviderType.NAVER);
+    when(mapper.itemsToPlaceDtos(mockItems, ProviderType.NAVER)).thenReturn(List.of(mockNaverPlace));
+
+    var mockDocuments = List.of(mock(Document.class));
+    when(kakaoService.searchKeywordDocumentsAsync(query, maxSize)).thenReturn(Mono.just(mockDocuments));
+
+    var mockKakaoPlace = secondMockPlace(ProviderType.KAKAO);
+    when(mapper.documentsToPlaceDtos(mockDocuments, ProviderType.KAKAO)).thenReturn(List.of(mockKakaoPlace));
+
+    var actuals = searchQueryService.streamPlaces(query).collectList().block();
+
+    assertEquals(2, actuals.size());
+
+    var partial = actuals.get(0);
+    assertFalse(partial.isCompleted());
+    assertEquals(1, partial.getRespondedProviders());
+    assertEquals(List.of(mockKakaoPlace), partial.getPlaces());
+
+    var completed = actuals.get(1);
+    assertTrue(completed.isCompleted());
+    assertEquals(2, completed.getRespondedProviders());
+    assertEquals(2, completed.getPlaces().size());
+    assertEquals(mockKakaoPlace.getName(), completed.getPlaces().get(0).getName());
+    assertEquals(mockKakaoPlace.getRoadAddress(), completed.getPlaces().get(0).getRoadAddress());
+    assertEquals(ProviderType.KAKAO, completed.getPlaces().get(0).getProviderType());
+    assertEquals(mockNaverPlace.getName(), completed.getPlaces().get(1).getName());
+    assertEquals(mockNaverPlace.getRoadAddress(), completed.getPlaces().get(1).getRoadAddress());
+    assertEquals(ProviderType.NAVER, completed.getPlaces().get(1).getProviderType());
+  }
+
+  @Test
+  @DisplayName("검색어와 관련된 장소 목록 스트리밍 조회 - 캐시 사용 시, 검색 API 호출 없이 캐시 목록을 최종 목록으로 전달")
+  public void streamPlaces_2() {
+    ReflectionTestUtils.setField(searchQueryService, "cacheEnabled", true);
+
+    var cachedPlaces = List.of(mock(PlaceDto.class));
+    when(placeCache.getAsync(eq(query), any())).thenReturn(Mono.just(cachedPlaces));
+
+    var actuals = searchQueryService.streamPlaces(query).collectList().block();
+
+    assertEquals(1, actuals.size());
+    assertTrue(actuals.get(0).isCompleted());
+    assertEquals(cachedPlaces, actuals.get(0).getPlaces());
+
+    verify(naverService, times(0)).searchLocalItemsAsync(anyString(), anyInt());
+    verify(kakaoService, times(0)).searchKeywordDocumentsAsync(anyString(), anyInt());
   }
 }
@@ -0,0 +1,47 @@
+package com.example.placesearchtoy.application.support;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.placesearchtoy.application.model.GeoPoint;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class GeoCoordinatesTest {
+
+  private final GeoPoint cityHall = GeoPoint.of(37.5666, 126.9784);
+
+  @Test
+  @DisplayName("네이버 좌표 변환 - KATEC 좌표일 경우, WGS84 경위도로 변환하여 반환")
+  public void fromNaver_1() {
+    var actual = GeoCoordinates.fromNaver("309947", "552085");
+
+    assertTrue(GeoCoordinates.distanceMeters(cityHall, actual) < 10);
+  }
+
+  @Test
+  @DisplayName("네이버 좌표 변환 - 경위도에 10^7을 곱한 좌표일 경우, 나누어 반환")
+  public void fromNaver_2() {
+    var actual = GeoCoordinates.fromNaver("1269784000", "375666000");
+
+    assertEquals(cityHall.getLatitude(), actual.getLatitude(), 1e-9);
+    assertEquals(cityHall.getLongitude(), actual.getLongitude(), 1e-9);
+  }
+
+  @Test
+  @DisplayName("카카오 좌표 변환 - 값이 없거나 숫자가 아닐 경우, null 반환")
+  public void fromKakao_1() {
+    assertNull(GeoCoordinates.fromKakao("", "37.5666"));
+    assertNull(GeoCoordinates.fromKakao("126.9784", null));
+    assertNull(GeoCoordinates.fromKakao("x", "37.5666"));
+  }
+
+  @Test
+  @DisplayName("두 좌표 사이의 거리 - 위도 0.001도 차이일 경우, 약 111m 반환")
+  public void distanceMeters_1() {
+    var actual = GeoCoordinates.distanceMeters(cityHall, GeoPoint.of(cityHall.getLatitude() + 0.001, cityHall.getLongitude()));
+
+    assertEquals(111.32, actual, 0.01);
+  }
+}
@@ -0,0 +1,84 @@
+package com.example.placesearchtoy.application.support;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class HeavyHitterSketchTest {
+
+  private final double epsilon = 0.0005;
+  private final double delta = 0.01;
+
+  @Test
+  @DisplayName("많이 검색된 키워드 근사 요약 - Zipf 분포 검색일 경우, 정확한 집계와 같은 상위 10개 키워드와 오차 범위 안의 횟수 반환")
+  public void top_1() {
+    var keywords = IntStream.range(0, 20_000).mapToObj(i -> "키워드" + i).toArray(String[]::new);
+    var cumulativeWeights = zipfCumulativeWeights(keywords.length, 1.1);
+    var random = new Random(42);
+    var totalHits = 300_000;
+
+    var exact = new KeywordHitCounter();
+    var sketch = new HeavyHitterSketch(epsilon, delta, 200);
+    for (int i = 0; i < totalHits; i++) {
+      var keyword = keywords[sample(cumulativeWeights, random)];
+      exact.increment(0, keyword);
+      sketch.add(keyword, 1);
+    }
+    var exactHits = exact.drain(1).get(0L);
+
+    var expectedTop10 = exactHits.entrySet()
+                                 .stream()
+                                 .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+                                 .limit(10)
+                                 .map(Map.Entry::getKey)
+                                 .toList();
+    var actualTop10 = sketch.top(10);
+
+    assertEquals(expectedTop10, new ArrayList<>(actualTop10.keySet()));
+    actualTop10.forEach((keyword, hits) -> {
+      assertTrue(hits >= exactHits.get(keyword));
+      assertTrue(hits <= exactHits.get(keyword) + epsilon * totalHits);
+    });
+    assertEquals(totalHits, sketch.getTotal());
+    assertEquals(200, sketch.top(Integer.MAX_VALUE).size());
+  }
+
+  @Test
+  @DisplayName("많이 검색된 키워드 근사 요약 - 기록할 키워드 수를 넘은 경우, 횟수가 더 많은 새 키워드로만 교체")
+  public void top_2() {
+    var sketch = new HeavyHitterSketch(epsilon, delta, 2);
+    sketch.add("떡볶이", 5);
+    sketch.add("순대", 3);
+    sketch.add("튀김", 1);
+
+    assertEquals(Map.of("떡볶이", 5L, "순대", 3L), sketch.top(2));
+
+    sketch.add("튀김", 3);
+
+    assertEquals(Map.of("떡볶이", 5L, "튀김", 4L), sketch.top(2));
+    assertEquals(3, sketch.estimate("순대"));
+  }
+
+  private double[] zipfCumulativeWeights(int size, double exponent) {
+    var weights = new double[size];
+    var sum = 0D;
+    for (int rank = 1; rank <= size; rank++) {
+      sum += 1 / Math.pow(rank, exponent);
+      weights[rank - 1] = sum;
+    }
+    return weights;
+  }
+
+  private int sample(double[] cumulativeWeights, Random random) {
+    var target = random.nextDouble() * cumulativeWeights[cumulativeWeights.length - 1];
+    var index = Arrays.binarySearch(cumulativeWeights, target);
+    return index >= 0 ? index : -index - 1;
+  }
+}
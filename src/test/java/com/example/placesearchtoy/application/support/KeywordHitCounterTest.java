@@ -0,0 +1,56 @@
+package com.example.placesearchtoy.application.support;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class KeywordHitCounterTest {
+
+  @Test
+  @DisplayName("모인 검색 횟수 꺼내기 - 여러 스레드에서 동시에 증가시킬 경우, 분과 키워드별로 모두 합산")
+  public void drain_1() {
+    var counter = new KeywordHitCounter();
+    var executor = Executors.newFixedThreadPool(8);
+    try {
+      var futures = IntStream.range(0, 8)
+                             .mapToObj(thread -> CompletableFuture.runAsync(() -> {
+                               for (int i = 0; i < 10_000; i++) {
+                                 counter.increment(100, i % 2 == 0 ? "떡볶이" : "순대");
+                               }
+                               counter.increment(101, "떡볶이");
+                             }, executor))
+                             .toArray(CompletableFuture[]::new);
+      CompletableFuture.allOf(futures).join();
+    } finally {
+      executor.shutdown();
+    }
+
+    var actual = counter.drain(101);
+
+    assertEquals(Map.of(100L, Map.of("떡볶이", 40_000L, "순대", 40_000L), 101L, Map.of("떡볶이", 8L)), actual);
+    assertTrue(counter.drain(101).isEmpty());
+  }
+
+  @Test
+  @DisplayName("모인 검색 횟수 꺼내기 - 지난 분의 항목은 한 번 더 빈 값으로 꺼낸 뒤 삭제, 현재 분의 항목은 유지")
+  public void drain_2() {
+    var counter = new KeywordHitCounter();
+    counter.increment(100, "떡볶이");
+    counter.increment(101, "순대");
+
+    counter.drain(101);
+    assertEquals(2, counter.size());
+
+    counter.drain(101);
+    assertEquals(1, counter.size());
+
+    counter.increment(101, "순대");
+    assertEquals(Map.of(101L, Map.of("순대", 1L)), counter.drain(101));
+  }
+}
@@ -0,0 +1,78 @@
+package com.example.placesearchtoy.application.support;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class MpscRingBufferTest {
+
+  @Test
+  @DisplayName("원소 추가 - 가득 찬 경우, 추가하지 않고 false 반환 후 꺼낸 만큼 다시 추가 가능")
+  public void offer_1() {
+    var buffer = new MpscRingBuffer<Integer>(3);
+
+    assertEquals(4, buffer.capacity());
+    IntStream.range(0, 4).forEach(i -> assertTrue(buffer.offer(i)));
+    assertFalse(buffer.offer(4));
+    assertEquals(4, buffer.size());
+
+    assertEquals(0, buffer.poll());
+    assertTrue(buffer.offer(4));
+
+    List<Integer> actuals = new ArrayList<>();
+    assertEquals(4, buffer.drain(actuals::add, 10));
+    assertEquals(List.of(1, 2, 3, 4), actuals);
+    assertNull(buffer.poll());
+    assertEquals(0, buffer.size());
+  }
+
+  @Test
+  @DisplayName("원소 꺼내기 - 여러 스레드에서 동시에 추가할 경우, 생산자별 추가 순서대로 빠짐없이 꺼냄")
+  public void poll_1() {
+    var buffer = new MpscRingBuffer<Integer>(64);
+    var producers = 4;
+    var perProducer = 2_000;
+    var executor = Executors.newFixedThreadPool(producers);
+    try {
+      var futures = IntStream.range(0, producers)
+                             .mapToObj(producer -> CompletableFuture.runAsync(() -> {
+                               for (int i = 0; i < perProducer; i++) {
+                                 while (!buffer.offer(producer * perProducer + i)) {
+                                   Thread.yield();
+                                 }
+                               }
+                             }, executor))
+                             .toArray(CompletableFuture[]::new);
+
+      var lasts = new int[producers];
+      Arrays.fill(lasts, -1);
+      var consumed = 0;
+      while (consumed < producers * perProducer) {
+        var element = buffer.poll();
+        if (element == null) {
+          Thread.yield();
+          continue;
+        }
+        var producer = element / perProducer;
+        assertEquals(lasts[producer] + 1, element % perProducer);
+        lasts[producer] = element % perProducer;
+        consumed++;
+      }
+      CompletableFuture.allOf(futures).join();
+    } finally {
+      executor.shutdown();
+    }
+
+    assertNull(buffer.poll());
+  }
+}
@@ -0,0 +1,89 @@
+package com.example.placesearchtoy.application.support;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+import net.jqwik.api.Arbitraries;
+import net.jqwik.api.Arbitrary;
+import net.jqwik.api.Example;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Label;
+import net.jqwik.api.Property;
+import net.jqwik.api.Provide;
+
+public class PlaceKeyNormalizerTest {
+
+  @Property(tries = 5000)
+  @Label("중복 판단 키 생성 - 임의의 장소명/도로명 주소에 대해, 기존 정규식 구현과 같은 키 반환")
+  public void normalize_1(@ForAll("names") String name, @ForAll("roadAddresses") String roadAddress) {
+    assertEquals(legacy(name, roadAddress), normalized(name, roadAddress));
+  }
+
+  @Example
+  @Label("중복 판단 키 생성 - 실제 검색 결과 형태의 장소에 대해, 기존 정규식 구현과 같은 키 반환")
+  public void normalize_2() {
+    assertEquals("동대문엽기떡볶이서울중구다산로265", PlaceKeyNormalizer.normalize("동대문엽기떡볶이 동대문본점", "서울특별시 중구 다산로 265 럭키프라자"));
+    assertEquals(legacy("<b>신전떡볶이</b>(본점) 1층", "경상북도 포항시 남구 지하 12 A빌딩 3층 101호"),
+        normalized("<b>신전떡볶이</b>(본점) 1층", "경상북도 포항시 남구 지하 12 A빌딩 3층 101호"));
+    assertEquals(legacy(" 앞공백", "제주특별자치도 제주시 첨단로 242"), normalized(" 앞공백", "제주특별자치도 제주시 첨단로 242"));
+  }
+
+  @Example
+  @Label("중복 판단 키 생성 - 공백으로만 이루어진 장소명일 경우, 예외 없이 도로명 주소만으로 키 반환")
+  public void normalize_3() {
+    assertEquals("서울중구다산로265", PlaceKeyNormalizer.normalize("   ", "서울특별시 중구 다산로 265"));
+    assertEquals(PlaceKeyNormalizer.normalize(" ", "서울 중구"), PlaceKeyNormalizer.normalize("   ", "서울 중구"));
+  }
+
+  @Provide
+  Arbitrary<String> names() {
+    return Arbitraries.strings().withChars(" \t\n\r\u0085 ()[]<>/b떡볶이층호").ofMaxLength(20);
+  }
+
+  @Provide
+  Arbitrary<String> roadAddresses() {
+    return Arbitraries.strings().withChars(" \t\n\u000B\f\r특별시광역자치도지하빌딩층호12").ofMaxLength(30);
+  }
+
+  private String normalized(String name, String roadAddress) {
+    try {
+      return PlaceKeyNormalizer.normalize(name, roadAddress);
+    } catch (RuntimeException e) {
+      return e.getClass().getName();
+    }
+  }
+
+  /**
+   * 기존 PlaceDto.getNameWithAddress 정규식 구현
+   * 공백으로만 이루어진 장소명은 나눈 결과가 없어 예외가 발생하던 부분만 빈 단어로 처리하도록 바꾼다.
+   */
+  private String legacy(String name, String roadAddress) {
+    try {
+      final String filterBracket = "\\(.*\\)|\\[.*]|<.*>";
+      final String filterSuffix = "특별시|광역시|특별자치도|도|시|지하";
+
+      var names = name.split(" ");
+      var filteredName = (names.length > 0 ? names[0] : "").replaceAll(filterBracket, "");
+      var filteredAddress = roadAddress.replaceAll(filterSuffix, "");
+
+      var concatKey = filteredName + " " + filteredAddress;
+      String[] splitKeys = concatKey.split("\\s+");
+      String[] keys = splitKeys.length > 5 ? Arrays.copyOfRange(splitKeys, 0, 5) : splitKeys;
+
+      return Arrays.stream(keys).filter(address -> !hasExceptWord(address)).collect(Collectors.joining());
+    } catch (RuntimeException e) {
+      return e.getClass().getName();
+    }
+  }
+
+  private boolean hasExceptWord(String roadAddress) {
+    final String[] exceptWordInRoadAddress = {"빌딩", "층", "호"};
+    for (String wordInRoadAddress : exceptWordInRoadAddress) {
+      if (roadAddress.contains(wordInRoadAddress)) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
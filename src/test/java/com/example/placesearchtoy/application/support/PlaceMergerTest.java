@@ -0,0 +1,167 @@
+package com.example.placesearchtoy.application.support;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import com.example.placesearchtoy.application.dto.PlaceDto;
+import com.example.placesearchtoy.application.model.GeoPoint;
+import com.example.placesearchtoy.application.model.ProviderPlaces;
+import com.example.placesearchtoy.application.model.type.ProviderType;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class PlaceMergerTest {
+
+  @Test
+  @DisplayName("장소 목록 병합 - 여러 API에서 검색된 장소가 있을 경우, 검색된 횟수가 많은 순으로 중복 없이 반환")
+  public void merge_1() {
+    var naverPlaces = List.of(place("호랑이분식", ProviderType.NAVER), place("엽기떡볶이", ProviderType.NAVER));
+    var kakaoPlaces = List.of(place("신전떡볶이", ProviderType.KAKAO), place("엽기떡볶이", ProviderType.KAKAO));
+    var otherPlaces = List.of(place("엽기떡볶이", ProviderType.NOT_DEFINED), place("호랑이분식", ProviderType.NOT_DEFINED));
+
+    var actuals = PlaceMerger.merge(List.of(
+        providerPlaces(ProviderType.NAVER, naverPlaces),
+        providerPlaces(ProviderType.KAKAO, kakaoPlaces),
+        providerPlaces(ProviderType.NOT_DEFINED, otherPlaces)), 10);
+
+    assertEquals(3, actuals.size());
+
+    assertSame(kakaoPlaces.get(1), actuals.get(0));
+    assertEquals(3, actuals.get(0).getMatchCount());
+
+    assertSame(naverPlaces.get(0), actuals.get(1));
+    assertEquals(2, actuals.get(1).getMatchCount());
+
+    assertSame(kakaoPlaces.get(0), actuals.get(2));
+    assertEquals(1, actuals.get(2).getMatchCount());
+  }
+
+  @Test
+  @DisplayName("장소 목록 병합 - 검색된 횟수가 같을 경우, 검색 API 우선순위 순, 조회된 순으로 반환")
+  public void merge_2() {
+    var naverPlaces = List.of(place("호랑이분식", ProviderType.NAVER), place("엽기떡볶이", ProviderType.NAVER));
+    var kakaoPlaces = List.of(place("신전떡볶이", ProviderType.KAKAO), place("배떡", ProviderType.KAKAO));
+
+    var actuals = PlaceMerger.merge(List.of(
+        providerPlaces(ProviderType.NAVER, naverPlaces),
+        providerPlaces(ProviderType.KAKAO, kakaoPlaces)), 10);
+
+    assertEquals(List.of(kakaoPlaces.get(0), kakaoPlaces.get(1), naverPlaces.get(0), naverPlaces.get(1)), actuals);
+  }
+
+  @Test
+  @DisplayName("장소 목록 병합 - 중복 제거 후 장소가 최대 개수보다 많을 경우, 최대 개수만큼 반환")
+  public void merge_3() {
+    var naverPlaces = IntStream.range(0, 8).mapToObj(i -> place("분식" + i, ProviderType.NAVER)).toList();
+    var kakaoPlaces = IntStream.range(4, 12).mapToObj(i -> place("분식" + i, ProviderType.KAKAO)).toList();
+
+    var actuals = PlaceMerger.merge(List.of(
+        providerPlaces(ProviderType.NAVER, naverPlaces),
+        providerPlaces(ProviderType.KAKAO, kakaoPlaces)), 5);
+
+    assertEquals(kakaoPlaces.subList(0, 4), actuals.subList(0, 4));
+    assertEquals(2, actuals.get(3).getMatchCount());
+    assertSame(kakaoPlaces.get(4), actuals.get(4));
+    assertEquals(1, actuals.get(4).getMatchCount());
+  }
+
+  @Test
+  @DisplayName("장소 목록 병합 - 좌표가 있을 경우, 반경 안에 있고 장소명이 비슷한 다른 API의 장소를 같은 장소로 묶어 반환")
+  public void merge_4() {
+    var naverPlace = place("동대문엽기떡볶이 동대문본점", ProviderType.NAVER, GeoPoint.of(37.56690, 127.00930));
+    var naverBranch = place("동대문엽기떡볶이 동대문2호점", ProviderType.NAVER, GeoPoint.of(37.56680, 127.00910));
+    var naverOther = place("호랑이분식", ProviderType.NAVER, GeoPoint.of(37.56695, 127.00935));
+    var kakaoPlace = place("동대문엽기떡볶이 동대문점", ProviderType.KAKAO, GeoPoint.of(37.56700, 127.00950));
+    kakaoPlace.setRoadAddress("서울특별시 중구 다산로 265 럭키프라자 1층");
+
+    var actuals = PlaceMerger.merge(List.of(
+        providerPlaces(ProviderType.NAVER, List.of(naverPlace, naverBranch, naverOther)),
+        providerPlaces(ProviderType.KAKAO, List.of(kakaoPlace))), 10, 50, 0.5);
+
+    assertEquals(List.of(kakaoPlace, naverBranch, naverOther), actuals);
+    assertEquals(2, kakaoPlace.getMatchCount());
+    assertEquals(1, naverBranch.getMatchCount());
+  }
+
+  @Test
+  @DisplayName("장소 목록 병합 - 좌표가 반경 밖에 있을 경우, 이름과 주소가 같아도 다른 장소로 반환")
+  public void merge_5() {
+    var naverPlace = place("엽기떡볶이", ProviderType.NAVER, GeoPoint.of(37.56690, 127.00930));
+    var kakaoPlace = place("엽기떡볶이", ProviderType.KAKAO, GeoPoint.of(37.56790, 127.00930));
+
+    var actuals = PlaceMerger.merge(List.of(
+        providerPlaces(ProviderType.NAVER, List.of(naverPlace)),
+        providerPlaces(ProviderType.KAKAO, List.of(kakaoPlace))), 10, 50, 0.5);
+
+    assertEquals(List.of(kakaoPlace, naverPlace), actuals);
+  }
+
+  @Test
+  @DisplayName("장소 목록 병합 - 좌표가 없는 장소일 경우, 중복 판단 키가 같은 다른 API의 좌표가 있는 장소와 같은 장소로 묶어 반환")
+  public void merge_6() {
+    var naverPlace = place("엽기떡볶이", ProviderType.NAVER, GeoPoint.of(37.56690, 127.00930));
+    var naverSameKey = place("엽기떡볶이", ProviderType.NAVER);
+    var kakaoPlace = place("엽기떡볶이", ProviderType.KAKAO);
+
+    var actuals = PlaceMerger.merge(List.of(
+        providerPlaces(ProviderType.NAVER, List.of(naverPlace, naverSameKey)),
+        providerPlaces(ProviderType.KAKAO, List.of(kakaoPlace))), 10, 50, 0.5);
+
+    assertEquals(List.of(kakaoPlace, naverSameKey), actuals);
+    assertEquals(2, kakaoPlace.getMatchCount());
+    assertEquals(1, naverSameKey.getMatchCount());
+  }
+
+  @Test
+  @DisplayName("장소 목록 병합 - 좌표가 있는 장소보다 좌표가 없는 장소가 먼저 조회된 경우, 중복 판단 키가 같으면 같은 장소로 묶고 이후 좌표로도 찾음")
+  public void merge_7() {
+    var naverPlace = place("엽기떡볶이", ProviderType.NAVER);
+    var kakaoPlace = place("엽기떡볶이", ProviderType.KAKAO, GeoPoint.of(37.56690, 127.00930));
+    var partnerPlace = place("엽기떡볶이 본점", ProviderType.NOT_DEFINED, GeoPoint.of(37.56695, 127.00935));
+    partnerPlace.setRoadAddress("서울특별시 중구 다산로 265 1층");
+
+    var actuals = PlaceMerger.merge(List.of(
+        providerPlaces(ProviderType.NAVER, List.of(naverPlace)),
+        providerPlaces(ProviderType.KAKAO, List.of(kakaoPlace)),
+        providerPlaces(ProviderType.NOT_DEFINED, List.of(partnerPlace))), 10, 50, 0.5);
+
+    assertEquals(List.of(kakaoPlace), actuals);
+    assertEquals(3, kakaoPlace.getMatchCount());
+  }
+
+  @Test
+  @DisplayName("장소 목록 병합 - 우선순위가 높은 장소로 대표 장소가 바뀐 경우, 이후 장소는 바뀐 대표 장소명과 비교하여 묶음")
+  public void merge_8() {
+    var naverPlace = place("가나다라마", ProviderType.NAVER, GeoPoint.of(37.56690, 127.00930));
+    var kakaoPlace = place("나다라마바사", ProviderType.KAKAO, GeoPoint.of(37.56695, 127.00935));
+    var partnerPlace = place("라마바사아", ProviderType.NOT_DEFINED, GeoPoint.of(37.56700, 127.00940));
+
+    var actuals = PlaceMerger.merge(List.of(
+        providerPlaces(ProviderType.NAVER, List.of(naverPlace)),
+        providerPlaces(ProviderType.KAKAO, List.of(kakaoPlace)),
+        providerPlaces(ProviderType.NOT_DEFINED, List.of(partnerPlace))), 10, 50, 0.5);
+
+    assertEquals(List.of(kakaoPlace), actuals);
+    assertEquals(3, kakaoPlace.getMatchCount());
+  }
+
+  private ProviderPlaces providerPlaces(ProviderType providerType, List<PlaceDto> places) {
+    return ProviderPlaces.of(providerType.name(), providerType.getPriority(), places);
+  }
+
+  private PlaceDto place(String name, ProviderType providerType, GeoPoint location) {
+    var place = place(name, providerType);
+    place.setLocation(location);
+    return place;
+  }
+
+  private PlaceDto place(String name, ProviderType providerType) {
+    var place = new PlaceDto();
+    place.setName(name);
+    place.setRoadAddress("서울 중구 다산로 265");
+    place.setProviderType(providerType);
+    return place;
+  }
+}
@@ -0,0 +1,104 @@
+package com.example.placesearchtoy.application.support;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class SingleFlightTest {
+
+  private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+  private final String key = "떡볶이";
+
+  private final AtomicInteger callCount = new AtomicInteger();
+
+  @AfterEach
+  public void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  @DisplayName("호출 합치기 - 실행 중인 호출이 있을 경우, 새로 실행하지 않고 같은 결과 반환")
+  public void execute_1() throws Exception {
+    var singleFlight = new SingleFlight<String, String>(Duration.ofSeconds(5));
+    var started = new CountDownLatch(1);
+    var release = new CountDownLatch(1);
+
+    var leader = CompletableFuture.supplyAsync(() -> singleFlight.execute(key, k -> {
+      callCount.incrementAndGet();
+      started.countDown();
+      await(release);
+      return "result";
+    }), executor);
+    started.await(5, TimeUnit.SECONDS);
+
+    var follower = CompletableFuture.supplyAsync(() -> singleFlight.execute(key, k -> {
+      callCount.incrementAndGet();
+      return "follower";
+    }), executor);
+    while (singleFlight.getCollapsedCount() < 1) {
+      Thread.onSpinWait();
+    }
+    release.countDown();
+
+    assertEquals("result", leader.get(5, TimeUnit.SECONDS));
+    assertEquals("result", follower.get(5, TimeUnit.SECONDS));
+    assertEquals(1, callCount.get());
+    assertEquals(1, singleFlight.getCollapsedCount());
+    assertEquals(0, singleFlight.getInFlightCount());
+  }
+
+  @Test
+  @DisplayName("호출 합치기 - 실행이 실패할 경우, 실패 결과를 보관하지 않고 다음 호출에서 다시 실행")
+  public void execute_2() {
+    var singleFlight = new SingleFlight<String, String>(Duration.ofSeconds(5));
+    var testRuntimeException = new RuntimeException("ERROR");
+
+    var e = assertThrows(RuntimeException.class, () -> singleFlight.execute(key, k -> {
+      throw testRuntimeException;
+    }));
+    var actual = singleFlight.execute(key, k -> "result");
+
+    assertSame(testRuntimeException, e);
+    assertEquals("result", actual);
+  }
+
+  @Test
+  @DisplayName("호출 합치기 - 대기 시간 내에 실행 중인 호출이 끝나지 않을 경우, SingleFlightTimeoutException 발생")
+  public void execute_3() throws Exception {
+    var singleFlight = new SingleFlight<String, String>(Duration.ofMillis(50));
+    var started = new CountDownLatch(1);
+    var release = new CountDownLatch(1);
+
+    var leader = CompletableFuture.supplyAsync(() -> singleFlight.execute(key, k -> {
+      started.countDown();
+      await(release);
+      return "result";
+    }), executor);
+    started.await(5, TimeUnit.SECONDS);
+
+    assertThrows(SingleFlightTimeoutException.class, () -> singleFlight.execute(key, k -> "follower"));
+
+    release.countDown();
+    assertEquals("result", leader.get(5, TimeUnit.SECONDS));
+  }
+
+  private void await(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
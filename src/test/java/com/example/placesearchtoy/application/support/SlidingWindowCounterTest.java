@@ -0,0 +1,53 @@
+package com.example.placesearchtoy.application.support;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class SlidingWindowCounterTest {
+
+  private final long start = Duration.ofDays(1).toMillis();
+
+  @Test
+  @DisplayName("상위 키워드 검색 횟수 - 시간이 지난 경우, 윈도우를 벗어난 칸의 횟수만 빼고 순위 갱신")
+  public void top_1() {
+    var counter = new SlidingWindowCounter(Duration.ofSeconds(5), Duration.ofSeconds(20));
+    counter.add(start, "떡볶이", 3);
+    counter.add(start + 4_999, "순대", 2);
+    counter.add(start + 5_000, "순대", 2);
+    counter.add(start + 12_000, "김밥", 1);
+
+    assertEquals(Map.of("순대", 4L, "떡볶이", 3L), counter.top(start + 19_999, 2));
+    assertEquals(List.of("순대", "떡볶이", "김밥"), List.copyOf(counter.top(start + 19_999, 10).keySet()));
+
+    assertEquals(Map.of("순대", 2L, "김밥", 1L), counter.top(start + 20_000, 10));
+    assertEquals(List.of("순대", "김밥"), List.copyOf(counter.top(start + 20_000, 10).keySet()));
+
+    assertEquals(Map.of("김밥", 1L), counter.top(start + 25_000, 10));
+    assertEquals(Map.of(), counter.top(start + 35_000, 10));
+    assertEquals(0, counter.size());
+  }
+
+  @Test
+  @DisplayName("검색 횟수 더하기 - 윈도우보다 오래 비어 있다가 더하거나 현재 칸보다 앞선 시각일 경우, 이전 횟수 없이 현재 칸에 더함")
+  public void add_1() {
+    var counter = new SlidingWindowCounter(Duration.ofSeconds(5), Duration.ofSeconds(20));
+    counter.add(start, "떡볶이", 3);
+    counter.add(start + Duration.ofHours(1).toMillis(), "순대", 1);
+    counter.add(start, "순대", 1);
+
+    assertEquals(Map.of("순대", 2L), counter.top(start + Duration.ofHours(1).toMillis(), 10));
+    assertEquals(Map.of(), counter.top(start + Duration.ofHours(1).toMillis() + 20_000, 10));
+  }
+
+  @Test
+  @DisplayName("슬라이딩 윈도우 생성 - 윈도우가 칸보다 짧을 경우, 예외 발생")
+  public void create_1() {
+    assertThrows(IllegalArgumentException.class, () -> new SlidingWindowCounter(Duration.ofSeconds(5), Duration.ofSeconds(1)));
+  }
+}